@@ -0,0 +1,143 @@
+package mekanism.benchmark;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
+
+import java.util.concurrent.TimeUnit;
+
+import mekanism.api.Coord4D;
+import mekanism.common.PacketHandler;
+import mekanism.common.base.ITileNetwork;
+import mekanism.common.base.TileNetworkList;
+import mekanism.common.base.TileNetworkWriter;
+import mekanism.common.content.matrix.SynchronizedMatrixData;
+import mekanism.common.tile.TileEntityEliteFactory;
+import mekanism.common.tile.TileEntityInductionCasing;
+import net.minecraft.init.Bootstrap;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Encodes the GUI sync data of a real elite factory and induction matrix, once by building a TileNetworkList with
+ * getNetworkedData() and encoding it with PacketHandler.encode(), and once by writing it straight into a buffer with
+ * writeNetworkedData() the way syncPlayersUsing() does. Some of each tile's state changes every operation, like it
+ * would between ticks.
+ *
+ * The size of each encoded payload is reported as the "bytes" counter. Run with -prof gc for the allocation rate,
+ * e.g. gradle jmh -Pjmh="TileNetworkBenchmark -prof gc".
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TileNetworkBenchmark
+{
+	@Param({"factory", "matrix"})
+	public String tile;
+
+	private TileEntityEliteFactory factory;
+	private TileEntityInductionCasing matrix;
+	private ITileNetwork target;
+
+	private int ticks;
+
+	private TileNetworkList list = new TileNetworkList();
+	private ByteBuf buffer;
+	private TileNetworkWriter writer;
+
+	@State(Scope.Thread)
+	@AuxCounters(AuxCounters.Type.EVENTS)
+	public static class Encoded
+	{
+		/** Size of the last payload encoded. */
+		public int bytes;
+	}
+
+	@Setup(Level.Trial)
+	public void setup()
+	{
+		//Tiles look up their blocks and items when they're constructed
+		Bootstrap.register();
+
+		factory = new TileEntityEliteFactory();
+		factory.electricityStored = 123456.5;
+
+		matrix = new TileEntityInductionCasing();
+		matrix.isRendering = true;
+		matrix.structure = new SynchronizedMatrixData();
+		matrix.structure.volWidth = 18;
+		matrix.structure.volHeight = 18;
+		matrix.structure.volLength = 18;
+		matrix.structure.renderLocation = new Coord4D(0, 64, 0, 0);
+		matrix.structure.inventoryID = "benchmark";
+		matrix.structure.storageCap = 8000000000D;
+		matrix.structure.transferCap = 256000000D;
+
+		target = tile.equals("factory") ? factory : matrix;
+
+		buffer = PooledByteBufAllocator.DEFAULT.buffer();
+		writer = new TileNetworkWriter(buffer, true);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown()
+	{
+		buffer.release();
+	}
+
+	private void tick()
+	{
+		ticks++;
+
+		factory.electricityStored += 1;
+		factory.progress[ticks % factory.progress.length] = ticks;
+
+		matrix.structure.energy += 1000;
+		matrix.structure.lastInput = ticks;
+	}
+
+	@Benchmark
+	public ByteBuf list(Encoded encoded)
+	{
+		tick();
+
+		list.clear();
+		buffer.clear();
+
+		PacketHandler.encode(target.getNetworkedData(list), buffer);
+
+		encoded.bytes = buffer.readableBytes();
+
+		return buffer;
+	}
+
+	@Benchmark
+	public ByteBuf writer(Encoded encoded)
+	{
+		tick();
+
+		list.clear();
+		writer.clear();
+
+		writer.writeTile(target, list);
+
+		encoded.bytes = buffer.readableBytes();
+
+		return buffer;
+	}
+}
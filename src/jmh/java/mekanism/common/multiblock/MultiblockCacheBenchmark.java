@@ -0,0 +1,154 @@
+package mekanism.common.multiblock;
+
+import java.util.concurrent.TimeUnit;
+
+import mekanism.api.Coord4D;
+import mekanism.common.Mekanism;
+import mekanism.common.content.matrix.SynchronizedMatrixData;
+import mekanism.common.tile.TileEntityInductionCasing;
+import net.minecraft.init.Bootstrap;
+import net.minecraft.profiler.Profiler;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.GameType;
+import net.minecraft.world.World;
+import net.minecraft.world.WorldProviderSurface;
+import net.minecraft.world.WorldSettings;
+import net.minecraft.world.WorldType;
+import net.minecraft.world.chunk.IChunkProvider;
+import net.minecraft.world.storage.WorldInfo;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Ticks every segment of a formed cube-shaped induction matrix through TileEntityMultiblock.onUpdate(), against the
+ * length of its side. In a steady tick the segments only check that they're still part of the same structure and the
+ * rendering segment syncs the manager's cache with MultiblockManager.syncCache(). After the structure is re-formed
+ * every segment syncs its own cache and registers with the manager's through MultiblockManager.updateCache().
+ *
+ * The segments sit in a world that has no chunks, as only the server side of onUpdate() is wanted.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MultiblockCacheBenchmark
+{
+	@Param({"3", "6", "10", "14", "18"})
+	public int size;
+
+	private SynchronizedMatrixData structure;
+	private TileEntityInductionCasing[] segments;
+
+	@Setup
+	public void setup()
+	{
+		Bootstrap.register();
+		MultiblockManager.reset();
+
+		World world = new BenchWorld();
+
+		structure = new SynchronizedMatrixData();
+		structure.inventoryID = Mekanism.matrixManager.getUniqueInventoryID();
+		structure.volWidth = size;
+		structure.volHeight = size;
+		structure.volLength = size;
+		structure.renderLocation = new Coord4D(0, 0, 0, 0);
+		structure.hasRenderer = true;
+
+		int shell = size*size*size - (size-2)*(size-2)*(size-2);
+		segments = new TileEntityInductionCasing[shell];
+
+		int i = 0;
+
+		for(int x = 0; x < size; x++)
+		{
+			for(int y = 0; y < size; y++)
+			{
+				for(int z = 0; z < size; z++)
+				{
+					if(x == 0 || y == 0 || z == 0 || x == size-1 || y == size-1 || z == size-1)
+					{
+						TileEntityInductionCasing segment = new TileEntityInductionCasing();
+						segment.setWorld(world);
+						segment.setPos(new BlockPos(x, y, z));
+						segment.structure = structure;
+						segment.prevStructure = true;
+
+						structure.locations.add(Coord4D.get(segment));
+						segments[i++] = segment;
+					}
+				}
+			}
+		}
+
+		segments[0].isRendering = true;
+
+		//The tick the structure formed on, after which every segment is registered with the cache
+		reform();
+	}
+
+	@Benchmark
+	public int tick()
+	{
+		for(TileEntityInductionCasing segment : segments)
+		{
+			segment.onUpdate();
+		}
+
+		return Mekanism.matrixManager.inventories.size();
+	}
+
+	@Benchmark
+	public int reform()
+	{
+		SynchronizedMatrixData formed = new SynchronizedMatrixData();
+		formed.inventoryID = structure.inventoryID;
+		formed.volWidth = structure.volWidth;
+		formed.volHeight = structure.volHeight;
+		formed.volLength = structure.volLength;
+		formed.renderLocation = structure.renderLocation;
+		formed.locations = structure.locations;
+		formed.hasRenderer = true;
+
+		structure = formed;
+
+		for(TileEntityInductionCasing segment : segments)
+		{
+			segment.structure = formed;
+		}
+
+		return tick();
+	}
+
+	private static class BenchWorld extends World
+	{
+		public BenchWorld()
+		{
+			super(null, new WorldInfo(new WorldSettings(0, GameType.SURVIVAL, false, false, WorldType.DEFAULT), "benchmark"), new WorldProviderSurface(), new Profiler(), false);
+		}
+
+		@Override
+		protected IChunkProvider createChunkProvider()
+		{
+			return null;
+		}
+
+		@Override
+		protected boolean isChunkLoaded(int x, int z, boolean allowEmpty)
+		{
+			return false;
+		}
+	}
+}
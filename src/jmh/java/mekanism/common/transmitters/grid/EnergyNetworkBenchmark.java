@@ -0,0 +1,164 @@
+package mekanism.common.transmitters.grid;
+
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import mekanism.api.Coord4D;
+import mekanism.common.base.EnergyAcceptorWrapper;
+import mekanism.common.config.MekanismConfig.general;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.EnumFacing;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Sends a tick's energy from a cable network to its acceptors, once by water-filling what they want in one pass
+ * (distributeEmit) and once by repeating even splits until nothing more is taken (doEmit), the two ways tickEmit() can
+ * go depending on ProportionalEnergyDistribution. Acceptors are stubs that want differing amounts each tick, and the
+ * network is given more or less energy than they want in total.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EnergyNetworkBenchmark
+{
+	@Param({"10", "100", "1000"})
+	public int acceptors;
+
+	/** Energy sent each tick, as a fraction of what the acceptors want in total. */
+	@Param({"0.5", "2"})
+	public double supply;
+
+	@Param({"true", "false"})
+	public boolean proportional;
+
+	private BenchNetwork network;
+	private StubAcceptor[] stubs;
+
+	private double energyToSend;
+
+	@Setup
+	public void setup()
+	{
+		//The network only emits on the server side, which Forge tells apart by the thread's name
+		Thread.currentThread().setName("Server thread");
+
+		general.proportionalEnergyDistribution = proportional;
+
+		network = new BenchNetwork();
+		stubs = new StubAcceptor[acceptors];
+
+		double totalDemand = 0;
+
+		for(int i = 0; i < acceptors; i++)
+		{
+			stubs[i] = new StubAcceptor(10*(1 + (i*37)%50));
+			totalDemand += stubs[i].demand;
+
+			network.add(new Coord4D(i, 0, 0, 0), stubs[i]);
+		}
+
+		energyToSend = totalDemand*supply;
+	}
+
+	@Benchmark
+	public double tickEmit()
+	{
+		for(StubAcceptor stub : stubs)
+		{
+			stub.needed = stub.demand;
+		}
+
+		return network.tickEmit(energyToSend);
+	}
+
+	/** A network with its acceptors given up front instead of looked up in a world. */
+	private static class BenchNetwork extends EnergyNetwork
+	{
+		private Map<Coord4D, StubAcceptor> stubs = new HashMap<>();
+
+		public void add(Coord4D coord, StubAcceptor acceptor)
+		{
+			acceptor.coord = coord;
+
+			stubs.put(coord, acceptor);
+			possibleAcceptors.put(coord, acceptor);
+			acceptorDirections.put(coord, EnumSet.of(EnumFacing.UP));
+		}
+
+		@Override
+		TileEntity getAcceptorTile(Coord4D coord)
+		{
+			return stubs.get(coord).tile;
+		}
+
+		@Override
+		EnergyAcceptorWrapper getAcceptor(TileEntity tile, EnumFacing side)
+		{
+			return ((StubTile)tile).acceptor;
+		}
+	}
+
+	private static class StubTile extends TileEntity
+	{
+		private StubAcceptor acceptor;
+
+		public StubTile(StubAcceptor a)
+		{
+			acceptor = a;
+		}
+	}
+
+	private static class StubAcceptor extends EnergyAcceptorWrapper
+	{
+		private StubTile tile = new StubTile(this);
+
+		private double demand;
+		private double needed;
+
+		public StubAcceptor(double d)
+		{
+			demand = d;
+		}
+
+		@Override
+		public double acceptEnergy(EnumFacing side, double amount, boolean simulate)
+		{
+			double toAccept = Math.min(amount, needed);
+
+			if(!simulate)
+			{
+				needed -= toAccept;
+			}
+
+			return toAccept;
+		}
+
+		@Override
+		public boolean canReceiveEnergy(EnumFacing side)
+		{
+			return true;
+		}
+
+		@Override
+		public boolean needsEnergy(EnumFacing side)
+		{
+			return needed > 0;
+		}
+	}
+}
@@ -0,0 +1,171 @@
+package mekanism.common.transmitters.grid;
+
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import mekanism.api.Coord4D;
+import mekanism.api.gas.Gas;
+import mekanism.api.gas.GasStack;
+import mekanism.api.gas.IGasHandler;
+import net.minecraft.util.EnumFacing;
+
+import org.apache.commons.lang3.tuple.Pair;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Emits several gas types to the same acceptors, once from one network carrying all of them and once from a separate
+ * network per type, the way they'd have to be built without multi-type networks. Acceptors are stubs that take a
+ * fixed amount of their own type each tick, so only the networks' own work is measured.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GasNetworkBenchmark
+{
+	private static final int AMOUNT = 1000;
+
+	@Param({"1", "2", "4", "8"})
+	public int types;
+
+	@Param({"4", "16"})
+	public int acceptorsPerType;
+
+	private Gas[] gases;
+
+	private BenchNetwork shared;
+	private BenchNetwork[] separate;
+
+	@Setup
+	public void setup()
+	{
+		gases = new Gas[types];
+
+		for(int i = 0; i < types; i++)
+		{
+			gases[i] = new Gas("benchmark" + i, "mekanism:blocks/liquid/liquidhydrogen");
+		}
+
+		shared = new BenchNetwork();
+		separate = new BenchNetwork[types];
+
+		for(int i = 0; i < types; i++)
+		{
+			separate[i] = new BenchNetwork();
+
+			for(int j = 0; j < acceptorsPerType; j++)
+			{
+				Coord4D coord = new Coord4D(i, 0, j, 0);
+				StubAcceptor acceptor = new StubAcceptor(gases[i]);
+
+				shared.add(coord, acceptor);
+				separate[i].add(coord, acceptor);
+			}
+		}
+	}
+
+	@Benchmark
+	public int shared()
+	{
+		shared.buffer = new GasStack(gases[0], AMOUNT);
+		shared.extraBuffers.clear();
+
+		for(int i = 1; i < types; i++)
+		{
+			shared.extraBuffers.add(new GasStack(gases[i], AMOUNT));
+		}
+
+		return shared.emitBuffers();
+	}
+
+	@Benchmark
+	public int separate()
+	{
+		int sent = 0;
+
+		for(int i = 0; i < types; i++)
+		{
+			separate[i].buffer = new GasStack(gases[i], AMOUNT);
+			sent += separate[i].emitBuffers();
+		}
+
+		return sent;
+	}
+
+	/** A network with its acceptors given up front instead of looked up in a world. */
+	private static class BenchNetwork extends GasNetwork
+	{
+		private Set<Pair<Coord4D, IGasHandler>> acceptors = new HashSet<>();
+
+		public void add(Coord4D coord, StubAcceptor acceptor)
+		{
+			acceptors.add(Pair.of(coord, acceptor));
+			possibleAcceptors.put(coord, acceptor);
+			acceptorDirections.put(coord, EnumSet.of(EnumFacing.UP));
+		}
+
+		@Override
+		public Set<Pair<Coord4D, IGasHandler>> getAcceptors(Object data)
+		{
+			Set<Pair<Coord4D, IGasHandler>> toReturn = new HashSet<>();
+
+			for(Pair<Coord4D, IGasHandler> pair : acceptors)
+			{
+				if(pair.getRight().canReceiveGas(EnumFacing.UP, (Gas)data))
+				{
+					toReturn.add(pair);
+				}
+			}
+
+			return toReturn;
+		}
+	}
+
+	private static class StubAcceptor implements IGasHandler
+	{
+		private Gas type;
+
+		public StubAcceptor(Gas gas)
+		{
+			type = gas;
+		}
+
+		@Override
+		public int receiveGas(EnumFacing side, GasStack stack, boolean doTransfer)
+		{
+			return stack.getGas() == type ? Math.min(stack.amount, 100) : 0;
+		}
+
+		@Override
+		public GasStack drawGas(EnumFacing side, int amount, boolean doTransfer)
+		{
+			return null;
+		}
+
+		@Override
+		public boolean canReceiveGas(EnumFacing side, Gas gas)
+		{
+			return gas == type;
+		}
+
+		@Override
+		public boolean canDrawGas(EnumFacing side, Gas gas)
+		{
+			return false;
+		}
+	}
+}
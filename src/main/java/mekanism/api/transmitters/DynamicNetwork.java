@@ -179,6 +179,37 @@ public abstract class DynamicNetwork<A, N extends DynamicNetwork<A, N>> implemen
 		}
 	}
 
+	/**
+	 * Removes a single transmitter from this network, along with the acceptor directions it contributed,
+	 * without disturbing the rest of the network.
+	 * @param transmitter - transmitter to remove
+	 */
+	public void removeTransmitter(IGridTransmitter<A, N> transmitter)
+	{
+		transmitters.remove(transmitter);
+		transmittersAdded.remove(transmitter);
+		changedAcceptors.remove(transmitter);
+
+		Coord4D coord = transmitter.coord();
+
+		for(EnumFacing side : EnumFacing.VALUES)
+		{
+			Coord4D acceptorCoord = coord.offset(side);
+			EnumSet<EnumFacing> directions = acceptorDirections.get(acceptorCoord);
+
+			if(directions != null)
+			{
+				directions.remove(side.getOpposite());
+
+				if(directions.isEmpty())
+				{
+					possibleAcceptors.remove(acceptorCoord);
+					acceptorDirections.remove(acceptorCoord);
+				}
+			}
+		}
+	}
+
 	public void acceptorChanged(IGridTransmitter<A, N> transmitter, EnumFacing side)
 	{
 		EnumSet<EnumFacing> directions = changedAcceptors.get(transmitter);
@@ -58,6 +58,13 @@ public interface IGridTransmitter<A, N extends DynamicNetwork<A, N>> extends ITr
 
 	N getExternalNetwork(Coord4D from);
 
+	/**
+	 * Gets the transmitter at the given location if it shares this transmitter's transmission type.
+	 * @param from - location to check
+	 * @return transmitter at the location, or null if there is none
+	 */
+	IGridTransmitter<A, N> getExternalTransmitter(Coord4D from);
+
 	void takeShare();
 
     void updateShare();
@@ -1,9 +1,13 @@
 package mekanism.api.transmitters;
 
+import java.util.ArrayList;
 import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedList;
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.Set;
 
 import mekanism.api.Coord4D;
 import mekanism.api.MekanismAPI;
@@ -118,6 +122,8 @@ public class TransmitterNetworkRegistry
 			logger.info("Dealing with " + invalidTransmitters.size() + " invalid Transmitters");
 		}
 		
+		HashMap<DynamicNetwork, HashSet> changedNetworks = Maps.newHashMap();
+		
 		for(IGridTransmitter invalid : invalidTransmitters)
 		{
 			if(!(invalid.isOrphan() && invalid.isValid()))
@@ -126,14 +132,98 @@ public class TransmitterNetworkRegistry
 				
 				if(n != null)
 				{
-					n.invalidate();
+					changedNetworks.computeIfAbsent(n, key -> Sets.newHashSet()).add(invalid);
 				}
 			}
 		}
 		
+		for(Entry<DynamicNetwork, HashSet> entry : changedNetworks.entrySet())
+		{
+			splitNetwork(entry.getKey(), entry.getValue());
+		}
+		
 		invalidTransmitters.clear();
 	}
 
+	/**
+	 * Removes the changed transmitters from a network and splits off only the parts that are no longer connected to it.
+	 * The searches from each side of the change take turns, and the part whose search is still running once all the
+	 * others have run out keeps the original network, including its buffer and acceptors. That's usually the largest
+	 * part, but not always, as searches that run into each other carry on as one. Falls back to a full invalidation
+	 * when the change can't be handled locally, e.g. when a transmitter now touches a different network.
+	 * @param net - network the transmitters belonged to
+	 * @param changed - transmitters that were removed or had their connections changed
+	 */
+	public <A, N extends DynamicNetwork<A, N>> void splitNetwork(DynamicNetwork<A, N> net, Set<IGridTransmitter<A, N>> changed)
+	{
+		N network = (N)net;
+		
+		if(!networks.contains(network) || !network.transmittersToAdd.isEmpty())
+		{
+			network.invalidate();
+			return;
+		}
+		
+		NetworkSplitter<A, N> splitter = new NetworkSplitter<>(network, changed);
+		
+		if(!splitter.start())
+		{
+			network.invalidate();
+			return;
+		}
+		
+		if(network.transmitters.isEmpty() || network.transmitters.size() == splitter.detachedSize())
+		{
+			//Nothing is left to keep the network's identity, let everything be rebuilt from orphans
+			network.invalidate();
+			return;
+		}
+		
+		if(MekanismAPI.debug && !splitter.detached.isEmpty())
+		{
+			logger.info("Splitting " + splitter.detached.size() + " networks with " + splitter.detachedSize() + " transmitters off " + network);
+		}
+		
+		//Shares are calculated against the whole network before anything is taken away from it
+		for(Set<IGridTransmitter<A, N>> component : splitter.detached)
+		{
+			for(IGridTransmitter<A, N> transmitter : component)
+			{
+				transmitter.updateShare();
+			}
+		}
+		
+		for(Set<IGridTransmitter<A, N>> component : splitter.detached)
+		{
+			for(IGridTransmitter<A, N> transmitter : component)
+			{
+				transmitter.takeShare();
+				network.removeTransmitter(transmitter);
+				transmitter.setTransmitterNetwork(null);
+				transmitter.setOrphan(false);
+			}
+			
+			N split = component.iterator().next().createEmptyNetwork();
+			split.addNewTransmitters(component);
+			networksToChange.add(split);
+			split.register();
+		}
+		
+		network.updateCapacity();
+		network.clampBuffer();
+		
+		for(IGridTransmitter<A, N> transmitter : changed)
+		{
+			if(transmitter.isValid() && network.transmitters.contains(transmitter))
+			{
+				for(EnumFacing side : EnumFacing.VALUES)
+				{
+					network.updateTransmitterOnSide(transmitter, side);
+				}
+			}
+		}
+	}
+
 	public void assignOrphans()
 	{
 		orphanTransmitters = new HashMap<>(newOrphanTransmitters);
@@ -300,4 +390,236 @@ public class TransmitterNetworkRegistry
 			if(net != null) networksFound.add(net);
 		}
 	}
+
+	/**
+	 * Walks outwards from the neighbours of changed transmitters in lockstep, one search per neighbour. Searches that
+	 * meet are joined, and a search that runs out of transmitters before meeting the others has found a part that is
+	 * no longer connected. The walk stops as soon as a single search is left, so the part that keeps the network is
+	 * never walked in full.
+	 */
+	public class NetworkSplitter<A, N extends DynamicNetwork<A, N>>
+	{
+		public N network;
+
+		public Set<IGridTransmitter<A, N>> changed;
+
+		public List<Set<IGridTransmitter<A, N>>> detached = new ArrayList<>();
+
+		private HashMap<Coord4D, Integer> iterated = Maps.newHashMap();
+
+		private List<Deque<IGridTransmitter<A, N>>> queues = new ArrayList<>();
+		private List<Set<IGridTransmitter<A, N>>> found = new ArrayList<>();
+		private List<Integer> parents = new ArrayList<>();
+
+		public NetworkSplitter(N net, Set<IGridTransmitter<A, N>> changedTransmitters)
+		{
+			network = net;
+			changed = changedTransmitters;
+		}
+
+		/**
+		 * @return false if the change can't be resolved within this network
+		 */
+		public boolean start()
+		{
+			for(IGridTransmitter<A, N> transmitter : changed)
+			{
+				if(transmitter.isValid() && touchesOtherNetwork(transmitter))
+				{
+					return false;
+				}
+			}
+
+			for(IGridTransmitter<A, N> transmitter : changed)
+			{
+				if(!transmitter.isValid())
+				{
+					network.removeTransmitter(transmitter);
+				}
+			}
+
+			for(IGridTransmitter<A, N> transmitter : changed)
+			{
+				Coord4D coord = transmitter.coord();
+
+				if(transmitter.isValid())
+				{
+					addSeed(transmitter, coord);
+				}
+
+				for(EnumFacing side : EnumFacing.VALUES)
+				{
+					Coord4D sideCoord = coord.offset(side);
+					IGridTransmitter<A, N> neighbor = transmitter.getExternalTransmitter(sideCoord);
+
+					if(neighbor != null && isMember(neighbor))
+					{
+						addSeed(neighbor, sideCoord);
+					}
+				}
+			}
+
+			List<Integer> remaining = new ArrayList<>();
+
+			for(int label = 0; label < parents.size(); label++)
+			{
+				if(find(label) == label)
+				{
+					remaining.add(label);
+				}
+			}
+
+			int cursor = 0;
+			boolean joined = false;
+
+			while(remaining.size() > 1)
+			{
+				if(joined)
+				{
+					remaining.removeIf(label -> find(label) != label);
+					joined = false;
+					continue;
+				}
+
+				cursor %= remaining.size();
+				int label = remaining.get(cursor);
+				Deque<IGridTransmitter<A, N>> queue = queues.get(label);
+
+				if(queue.isEmpty())
+				{
+					detached.add(found.get(label));
+					remaining.remove(cursor);
+					continue;
+				}
+
+				joined = iterate(label, queue.removeFirst());
+				cursor++;
+			}
+
+			return true;
+		}
+
+		public int detachedSize()
+		{
+			int size = 0;
+
+			for(Set<IGridTransmitter<A, N>> component : detached)
+			{
+				size += component.size();
+			}
+
+			return size;
+		}
+
+		/**
+		 * @return true if this search ran into another one
+		 */
+		private boolean iterate(int label, IGridTransmitter<A, N> from)
+		{
+			boolean joined = false;
+
+			for(EnumFacing direction : EnumFacing.VALUES)
+			{
+				Coord4D directionCoord = from.getAdjacentConnectableTransmitterCoord(direction);
+
+				if(directionCoord == null)
+				{
+					continue;
+				}
+
+				Integer other = iterated.get(directionCoord);
+
+				if(other != null)
+				{
+					joined |= union(label, other);
+				}
+				else {
+					IGridTransmitter<A, N> transmitter = from.getExternalTransmitter(directionCoord);
+
+					if(transmitter != null && isMember(transmitter))
+					{
+						int root = find(label);
+
+						iterated.put(directionCoord, root);
+						queues.get(root).addLast(transmitter);
+						found.get(root).add(transmitter);
+					}
+				}
+			}
+
+			return joined;
+		}
+
+		private void addSeed(IGridTransmitter<A, N> transmitter, Coord4D coord)
+		{
+			if(iterated.containsKey(coord))
+			{
+				return;
+			}
+
+			int label = parents.size();
+
+			parents.add(label);
+			queues.add(new LinkedList<>());
+			found.add(Sets.newHashSet());
+
+			iterated.put(coord, label);
+			queues.get(label).addLast(transmitter);
+			found.get(label).add(transmitter);
+		}
+
+		private boolean isMember(IGridTransmitter<A, N> transmitter)
+		{
+			return transmitter.isValid() && transmitter.getTransmitterNetwork() == network && network.transmitters.contains(transmitter);
+		}
+
+		private boolean touchesOtherNetwork(IGridTransmitter<A, N> transmitter)
+		{
+			for(EnumFacing direction : EnumFacing.VALUES)
+			{
+				Coord4D directionCoord = transmitter.getAdjacentConnectableTransmitterCoord(direction);
+
+				if(directionCoord != null)
+				{
+					IGridTransmitter<A, N> neighbor = transmitter.getExternalTransmitter(directionCoord);
+
+					if(neighbor != null && !neighbor.isOrphan() && neighbor.getTransmitterNetwork() != network)
+					{
+						return true;
+					}
+				}
+			}
+
+			return false;
+		}
+
+		private int find(int label)
+		{
+			while(parents.get(label) != label)
+			{
+				label = parents.get(label);
+			}
+
+			return label;
+		}
+
+		private boolean union(int first, int second)
+		{
+			int firstRoot = find(first);
+			int secondRoot = find(second);
+
+			if(firstRoot == secondRoot)
+			{
+				return false;
+			}
+
+			parents.set(secondRoot, firstRoot);
+			queues.get(firstRoot).addAll(queues.get(secondRoot));
+			queues.get(secondRoot).clear();
+			found.get(firstRoot).addAll(found.get(secondRoot));
+			found.get(secondRoot).clear();
+
+			return true;
+		}
+	}
 }
@@ -6,6 +6,7 @@ import java.util.List;
 import mekanism.api.EnumColor;
 import mekanism.api.MekanismAPI;
 import mekanism.common.config.MekanismConfig.general;
+import mekanism.common.content.transporter.PathfinderCache;
 import mekanism.common.util.MekanismUtils;
 import net.minecraft.command.CommandBase;
 import net.minecraft.command.ICommandSender;
@@ -105,6 +106,7 @@ public class CommandMekanism extends CommandBase
 			{
 				MekanismAPI.debug = !MekanismAPI.debug;
 				sender.sendMessage(new TextComponentString(EnumColor.DARK_BLUE + "[Mekanism]" + EnumColor.GREY + " Debug mode set to " + EnumColor.DARK_GREY + MekanismAPI.debug));
+				sender.sendMessage(new TextComponentString(EnumColor.DARK_BLUE + "[Mekanism]" + EnumColor.GREY + " Path cache: " + EnumColor.DARK_GREY + PathfinderCache.getSize() + EnumColor.GREY + " paths, " + EnumColor.DARK_GREY + PathfinderCache.hits + EnumColor.GREY + " hits, " + EnumColor.DARK_GREY + PathfinderCache.misses + EnumColor.GREY + " misses, " + EnumColor.DARK_GREY + PathfinderCache.evictions + EnumColor.GREY + " evictions"));
 			}
 			else if(params[0].equalsIgnoreCase("op"))
 			{
@@ -29,6 +29,11 @@ public class CommonPlayerTickHandler
 	@SubscribeEvent
 	public void onTick(PlayerTickEvent event)
 	{
+		if(event.phase == Phase.START && event.side == Side.SERVER && event.player instanceof EntityPlayerMP)
+		{
+			Mekanism.packetHandler.playerIndex.update((EntityPlayerMP)event.player);
+		}
+		
 		if(event.phase == Phase.END && event.side == Side.SERVER)
 		{
 			tickEnd(event.player);
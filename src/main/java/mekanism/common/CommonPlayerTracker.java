@@ -15,6 +15,7 @@ import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
 import net.minecraftforge.fml.common.gameevent.PlayerEvent.PlayerChangedDimensionEvent;
 import net.minecraftforge.fml.common.gameevent.PlayerEvent.PlayerLoggedInEvent;
 import net.minecraftforge.fml.common.gameevent.PlayerEvent.PlayerLoggedOutEvent;
+import net.minecraftforge.fml.common.gameevent.PlayerEvent.PlayerRespawnEvent;
 
 public class CommonPlayerTracker
 {
@@ -28,6 +29,7 @@ public class CommonPlayerTracker
 	{
 		if(!event.player.world.isRemote)
 		{
+			Mekanism.packetHandler.playerIndex.update((EntityPlayerMP)event.player);
 			Mekanism.packetHandler.sendTo(new ConfigSyncMessage(), (EntityPlayerMP)event.player);
 			Mekanism.packetHandler.sendTo(new BoxBlacklistMessage(), (EntityPlayerMP)event.player);
 			Mekanism.packetHandler.sendTo(new JetpackDataMessage(JetpackPacket.FULL, null, false), (EntityPlayerMP)event.player);
@@ -46,6 +48,11 @@ public class CommonPlayerTracker
 		Mekanism.gasmaskOn.remove(event.player.getName());
 		Mekanism.flamethrowerActive.remove(event.player.getName());
 		Mekanism.freeRunnerOn.remove(event.player.getName());
+
+		if(!event.player.world.isRemote)
+		{
+			Mekanism.packetHandler.playerIndex.remove((EntityPlayerMP)event.player);
+		}
 	}
 
 	@SubscribeEvent
@@ -58,9 +65,19 @@ public class CommonPlayerTracker
 
 		if(!event.player.world.isRemote)
 		{
+			Mekanism.packetHandler.playerIndex.update((EntityPlayerMP)event.player);
 			Mekanism.packetHandler.sendTo(new JetpackDataMessage(JetpackPacket.FULL, null, false), (EntityPlayerMP)event.player);
 			Mekanism.packetHandler.sendTo(new ScubaTankDataMessage(ScubaTankPacket.FULL, null, false), (EntityPlayerMP)event.player);
 			Mekanism.packetHandler.sendTo(new PacketFreeRunnerData.FreeRunnerDataMessage(PacketFreeRunnerData.FreeRunnerPacket.FULL, null, false), (EntityPlayerMP)event.player);
 		}
 	}
+
+	@SubscribeEvent
+	public void onPlayerRespawnEvent(PlayerRespawnEvent event)
+	{
+		if(!event.player.world.isRemote)
+		{
+			Mekanism.packetHandler.playerIndex.update((EntityPlayerMP)event.player);
+		}
+	}
 }
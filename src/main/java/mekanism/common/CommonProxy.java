@@ -272,6 +272,9 @@ public class CommonProxy implements IGuiProvider
 		general.maxPumpRange = Mekanism.configuration.get(Configuration.CATEGORY_GENERAL, "MaxPumpRange", 80).getInt();
 		general.pumpWaterSources = Mekanism.configuration.get(Configuration.CATEGORY_GENERAL, "PumpWaterSources", false).getBoolean();
 		general.maxPlenisherNodes = Mekanism.configuration.get(Configuration.CATEGORY_GENERAL, "MaxPlenisherNodes", 4000).getInt();
+		general.plenisherBatchedMode = Mekanism.configuration.get(Configuration.CATEGORY_GENERAL, "PlenisherBatchedMode", false, "Whether speed upgrades make the Fluidic Plenisher place several fluid blocks per operation instead of running operations faster").getBoolean();
+		general.multiTypeNetworks = Mekanism.configuration.get(Configuration.CATEGORY_GENERAL, "MultiTypeNetworks", false, "Whether a single gas or fluid network can carry several types at once, sharing its capacity between them").getBoolean();
+		general.fairTypeScheduling = Mekanism.configuration.get(Configuration.CATEGORY_GENERAL, "FairTypeScheduling", true, "When networks carry several types, whether the type that is sent first changes every tick, instead of the oldest type always going first").getBoolean();
 		general.evaporationHeatDissipation = Mekanism.configuration.get(Configuration.CATEGORY_GENERAL, "EvaporationHeatDissipation", 0.02D).getDouble();
 		general.evaporationTempMultiplier = Mekanism.configuration.get(Configuration.CATEGORY_GENERAL, "EvaporationTempMultiplier", 0.1D).getDouble();
 		general.evaporationSolarMultiplier = Mekanism.configuration.get(Configuration.CATEGORY_GENERAL, "EvaporationSolarMultiplier", 0.2D).getDouble();
@@ -285,6 +288,8 @@ public class CommonProxy implements IGuiProvider
 		general.allowProtection = Mekanism.configuration.get(Configuration.CATEGORY_GENERAL, "AllowProtection", true).getBoolean();
 		general.portableTeleporterDelay = Mekanism.configuration.get(Configuration.CATEGORY_GENERAL, "PortableTeleporterDelay", 0).getInt();
 		general.quantumEntangloporterEnergyTransfer = Mekanism.configuration.get(Configuration.CATEGORY_GENERAL, "QuantumEntangloporterEnergyTransfer", 16000000D).getDouble();
+		general.proportionalEnergyDistribution = Mekanism.configuration.get(Configuration.CATEGORY_GENERAL, "ProportionalEnergyDistribution", true, "Distribute energy from cable networks and energy outputs in a single pass based on what each acceptor needs, instead of repeated even splits").getBoolean();
+		general.minerSearchThreads = Mekanism.configuration.get(Configuration.CATEGORY_GENERAL, "MinerSearchThreads", 2, "Number of background threads shared by all Digital Miners to search their area", 1, 64).getInt();
 		
 		general.blacklistIC2 = Mekanism.configuration.get(Configuration.CATEGORY_GENERAL, "BlacklistIC2Power", false).getBoolean();
 		general.blacklistRF = Mekanism.configuration.get(Configuration.CATEGORY_GENERAL, "BlacklistRFPower", false).getBoolean();
@@ -38,7 +38,6 @@ import mekanism.common.content.entangloporter.InventoryFrequency;
 import mekanism.common.content.matrix.SynchronizedMatrixData;
 import mekanism.common.content.tank.SynchronizedTankData;
 import mekanism.common.content.transporter.PathfinderCache;
-import mekanism.common.content.transporter.TransporterManager;
 import mekanism.common.entity.EntityBabySkeleton;
 import mekanism.common.entity.EntityBalloon;
 import mekanism.common.entity.EntityFlame;
@@ -675,11 +674,11 @@ public class Mekanism
 		privateTeleporters.clear();
 		privateEntangloporters.clear();
 		freeRunnerOn.clear();
+		packetHandler.playerIndex.reset();
 		
 		//Reset consistent managers
 		MultiblockManager.reset();
 		FrequencyManager.reset();
-		TransporterManager.reset();
 		PathfinderCache.reset();
 		TransmitterNetworkRegistry.reset();
 	}
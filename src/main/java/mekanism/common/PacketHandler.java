@@ -4,8 +4,11 @@ import io.netty.buffer.ByteBuf;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 
+import mekanism.api.Coord4D;
 import mekanism.api.Range4D;
 import mekanism.common.config.MekanismConfig.general;
 import mekanism.common.network.PacketBoxBlacklist;
@@ -63,6 +66,10 @@ import mekanism.common.network.PacketSimpleGui;
 import mekanism.common.network.PacketSimpleGui.SimpleGuiMessage;
 import mekanism.common.network.PacketTileEntity;
 import mekanism.common.network.PacketTileEntity.TileEntityMessage;
+import mekanism.common.network.PacketTileEntityBatch;
+import mekanism.common.network.PacketTileEntityBatch.TileEntityBatchMessage;
+import mekanism.common.network.PacketTileSync;
+import mekanism.common.network.PacketTileSync.TileSyncMessage;
 import mekanism.common.network.PacketTransmitterUpdate;
 import mekanism.common.network.PacketTransmitterUpdate.TransmitterUpdateMessage;
 import net.minecraft.entity.player.EntityPlayer;
@@ -71,7 +78,6 @@ import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.server.MinecraftServer;
 import net.minecraft.util.EnumFacing;
-import net.minecraft.util.NonNullList;
 import net.minecraft.util.math.AxisAlignedBB;
 import net.minecraft.util.math.Vec3d;
 import net.minecraftforge.fml.common.FMLCommonHandler;
@@ -90,6 +96,9 @@ import net.minecraftforge.fml.relauncher.Side;
 public class PacketHandler
 {
 	public SimpleNetworkWrapper netHandler = NetworkRegistry.INSTANCE.newSimpleChannel("MEK");
+
+	/** The online players by chunk, used to find who to send area packets to. */
+	public PlayerChunkIndex playerIndex = new PlayerChunkIndex();
 	
 	public void initialize()
 	{
@@ -136,6 +145,8 @@ public class PacketHandler
 		netHandler.registerMessage(PacketSecurityUpdate.class, SecurityUpdateMessage.class, 30, Side.CLIENT);
 		netHandler.registerMessage(PacketFreeRunnerData.class, PacketFreeRunnerData.FreeRunnerDataMessage.class, 31, Side.CLIENT);
 		netHandler.registerMessage(PacketFreeRunnerData.class, PacketFreeRunnerData.FreeRunnerDataMessage.class, 31, Side.SERVER);
+		netHandler.registerMessage(PacketTileEntityBatch.class, TileEntityBatchMessage.class, 32, Side.CLIENT);
+		netHandler.registerMessage(PacketTileSync.class, TileSyncMessage.class, 33, Side.CLIENT);
 	}
 	
 	/**
@@ -148,81 +159,106 @@ public class PacketHandler
 		try {
 			for(Object data : dataValues)
 			{
-				if(data instanceof Byte)
-				{
-					output.writeByte((Byte)data);
-				}
-				else if(data instanceof Integer)
-				{
-					output.writeInt((Integer)data);
-				}
-				else if(data instanceof Short)
-				{
-					output.writeShort((Short)data);
-				}
-				else if(data instanceof Long)
-				{
-					output.writeLong((Long)data);
-				}
-				else if(data instanceof Boolean)
-				{
-					output.writeBoolean((Boolean)data);
-				}
-				else if(data instanceof Double)
-				{
-					output.writeDouble((Double)data);
-				}
-				else if(data instanceof Float)
-				{
-					output.writeFloat((Float)data);
-				}
-				else if(data instanceof String)
-				{
-					writeString(output, (String)data);
-				}
-				else if(data instanceof EnumFacing)
-				{
-					output.writeInt(((EnumFacing)data).ordinal());
-				}
-				else if(data instanceof ItemStack)
-				{
-					writeStack(output, (ItemStack)data);
-				}
-				else if(data instanceof NBTTagCompound)
-				{
-					writeNBT(output, (NBTTagCompound)data);
-				}
-				else if(data instanceof int[])
-				{
-					for(int i : (int[])data)
-					{
-						output.writeInt(i);
-					}
-				}
-				else if(data instanceof byte[])
-				{
-					for(byte b : (byte[])data)
-					{
-						output.writeByte(b);
-					}
-				}
-				else if(data instanceof ArrayList)
-				{
-					encode(((ArrayList<?>)data).toArray(), output);
-				}
-				else if (data instanceof NonNullList){
-					encode(((NonNullList) data).toArray(), output);
-				}
-				else {
-					throw new RuntimeException("Un-encodable data passed to encode(): " + data + ", full data: " + Arrays.toString(dataValues));
-				}
+				encodeValue(data, output);
 			}
 		} catch(Exception e) {
-			Mekanism.logger.error("Error while encoding packet data.");
+			Mekanism.logger.error("Error while encoding packet data: " + Arrays.toString(dataValues));
 			e.printStackTrace();
 		}
 	}
 	
+	/**
+	 * Encodes a list of data into a DataOutputStream, without copying it into an array first.
+	 * @param dataValues - a list of data to encode
+	 * @param output - the output stream to write to
+	 */
+	public static void encode(List<?> dataValues, ByteBuf output)
+	{
+		try {
+			encodeList(dataValues, output);
+		} catch(Exception e) {
+			Mekanism.logger.error("Error while encoding packet data: " + dataValues);
+			e.printStackTrace();
+		}
+	}
+	
+	private static void encodeList(List<?> dataValues, ByteBuf output)
+	{
+		for(int i = 0; i < dataValues.size(); i++)
+		{
+			encodeValue(dataValues.get(i), output);
+		}
+	}
+	
+	/**
+	 * Encodes a single value. The most common types in tile entity data are checked first.
+	 */
+	public static void encodeValue(Object data, ByteBuf output)
+	{
+		if(data instanceof Integer)
+		{
+			output.writeInt((Integer)data);
+		}
+		else if(data instanceof Double)
+		{
+			output.writeDouble((Double)data);
+		}
+		else if(data instanceof Boolean)
+		{
+			output.writeBoolean((Boolean)data);
+		}
+		else if(data instanceof String)
+		{
+			writeString(output, (String)data);
+		}
+		else if(data instanceof EnumFacing)
+		{
+			output.writeInt(((EnumFacing)data).ordinal());
+		}
+		else if(data instanceof Byte)
+		{
+			output.writeByte((Byte)data);
+		}
+		else if(data instanceof Short)
+		{
+			output.writeShort((Short)data);
+		}
+		else if(data instanceof Long)
+		{
+			output.writeLong((Long)data);
+		}
+		else if(data instanceof Float)
+		{
+			output.writeFloat((Float)data);
+		}
+		else if(data instanceof ItemStack)
+		{
+			writeStack(output, (ItemStack)data);
+		}
+		else if(data instanceof NBTTagCompound)
+		{
+			writeNBT(output, (NBTTagCompound)data);
+		}
+		else if(data instanceof int[])
+		{
+			for(int i : (int[])data)
+			{
+				output.writeInt(i);
+			}
+		}
+		else if(data instanceof byte[])
+		{
+			output.writeBytes((byte[])data);
+		}
+		else if(data instanceof List)
+		{
+			encodeList((List<?>)data, output);
+		}
+		else {
+			throw new RuntimeException("Un-encodable data passed to encode(): " + data);
+		}
+	}
+	
 	public static void writeString(ByteBuf output, String s)
 	{
 		ByteBufUtils.writeUTF8String(output, s);
@@ -337,7 +373,10 @@ public class PacketHandler
 
 		if(server != null && cuboid != null)
 		{
-			for(EntityPlayerMP player : (List<EntityPlayerMP>)server.getPlayerList().getPlayers())
+			List<EntityPlayerMP> candidates = new ArrayList<>();
+			playerIndex.getCandidates(cuboid, dimId, candidates);
+
+			for(EntityPlayerMP player : candidates)
 			{
 				if(player.dimension == dimId && cuboid.contains(new Vec3d(player.posX, player.posY, player.posZ)))
 				{
@@ -347,19 +386,84 @@ public class PacketHandler
 		}
 	}
 	
+	/**
+	 * Send this message to all players that can see any part of the given range.
+	 * @param message - the message to send
+	 * @param range - the range the message is about
+	 */
 	public void sendToReceivers(IMessage message, Range4D range)
 	{
 		MinecraftServer server = FMLCommonHandler.instance().getMinecraftServerInstance();
 
 		if(server != null)
 		{
-			for(EntityPlayerMP player : (List<EntityPlayerMP>)server.getPlayerList().getPlayers())
+			List<EntityPlayerMP> receivers = new ArrayList<>();
+			playerIndex.getReceivers(range, server.getPlayerList().getViewDistance(), receivers);
+
+			for(EntityPlayerMP player : receivers)
 			{
-				if(player.dimension == range.dimensionId && Range4D.getChunkRange(player).intersects(range))
+				sendTo(message, player);
+			}
+		}
+	}
+	
+	/**
+	 * Send each message to all players that can see any part of its range, looking up the players for all of them
+	 * at once.
+	 * @param messages - the messages to send
+	 * @param ranges - the range of the message at the same index, all in the same dimension
+	 */
+	public void sendToReceivers(List<? extends IMessage> messages, List<Range4D> ranges)
+	{
+		MinecraftServer server = FMLCommonHandler.instance().getMinecraftServerInstance();
+
+		if(server != null)
+		{
+			List<List<EntityPlayerMP>> receivers = playerIndex.getReceivers(ranges, server.getPlayerList().getViewDistance());
+
+			for(int i = 0; i < messages.size(); i++)
+			{
+				for(EntityPlayerMP player : receivers.get(i))
 				{
-					sendTo(message, player);
+					sendTo(messages.get(i), player);
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Send already encoded TileEntity data to the players that can see each tile, as one message per player.
+	 * @param coords - the tiles the data is for, all in the same dimension
+	 * @param data - the encoded data for the tile at the same index
+	 */
+	public void sendBatchToReceivers(List<Coord4D> coords, List<ByteBuf> data)
+	{
+		MinecraftServer server = FMLCommonHandler.instance().getMinecraftServerInstance();
+
+		if(server != null && !coords.isEmpty())
+		{
+			List<Range4D> ranges = new ArrayList<>(coords.size());
+
+			for(Coord4D coord : coords)
+			{
+				ranges.add(new Range4D(coord));
+			}
+
+			List<List<EntityPlayerMP>> receivers = playerIndex.getReceivers(ranges, server.getPlayerList().getViewDistance());
+			Map<EntityPlayerMP, TileEntityBatchMessage> messages = new IdentityHashMap<>();
+
+			for(int i = 0; i < coords.size(); i++)
+			{
+				for(EntityPlayerMP player : receivers.get(i))
+				{
+					messages.computeIfAbsent(player, p -> new TileEntityBatchMessage()).add(coords.get(i), data.get(i));
 				}
 			}
+
+			for(Map.Entry<EntityPlayerMP, TileEntityBatchMessage> entry : messages.entrySet())
+			{
+				sendTo(entry.getValue(), entry.getKey());
+			}
 		}
 	}
 }
@@ -0,0 +1,263 @@
+package mekanism.common;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectIterator;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import mekanism.api.Range4D;
+import net.minecraft.entity.player.EntityPlayerMP;
+import net.minecraft.util.math.AxisAlignedBB;
+import net.minecraft.util.math.ChunkPos;
+
+/**
+ * Server-side index of online players by dimension and chunk, so packets sent to an area only have to look at the
+ * chunks players are actually in. Each player's entry is moved whenever they tick in a different chunk.
+ */
+public class PlayerChunkIndex
+{
+	/** Per dimension, the players in each occupied chunk, keyed by ChunkPos.asLong(). */
+	private Map<Integer, Long2ObjectMap<List<EntityPlayerMP>>> buckets = new HashMap<>();
+
+	private Map<UUID, Entry> entries = new HashMap<>();
+
+	/**
+	 * Moves the player to the bucket of the chunk they're in now, if it changed.
+	 * @param player - player that ticked
+	 */
+	public void update(EntityPlayerMP player)
+	{
+		int chunkX = ((int)player.posX) >> 4;
+		int chunkZ = ((int)player.posZ) >> 4;
+
+		Entry entry = entries.get(player.getUniqueID());
+
+		if(entry != null)
+		{
+			if(entry.player == player && entry.dimensionId == player.dimension && entry.chunkX == chunkX && entry.chunkZ == chunkZ)
+			{
+				return;
+			}
+
+			unindex(entry);
+		}
+
+		entry = new Entry(player, player.dimension, chunkX, chunkZ);
+		entries.put(player.getUniqueID(), entry);
+
+		buckets.computeIfAbsent(entry.dimensionId, dimension -> new Long2ObjectOpenHashMap<>())
+				.computeIfAbsent(ChunkPos.asLong(chunkX, chunkZ), key -> new ArrayList<>()).add(player);
+	}
+
+	public void remove(EntityPlayerMP player)
+	{
+		Entry entry = entries.remove(player.getUniqueID());
+
+		if(entry != null)
+		{
+			unindex(entry);
+		}
+	}
+
+	private void unindex(Entry entry)
+	{
+		Long2ObjectMap<List<EntityPlayerMP>> dimensionBuckets = buckets.get(entry.dimensionId);
+
+		if(dimensionBuckets == null)
+		{
+			return;
+		}
+
+		long key = ChunkPos.asLong(entry.chunkX, entry.chunkZ);
+		List<EntityPlayerMP> players = dimensionBuckets.get(key);
+
+		if(players != null)
+		{
+			players.remove(entry.player);
+
+			if(players.isEmpty())
+			{
+				dimensionBuckets.remove(key);
+			}
+		}
+
+		if(dimensionBuckets.isEmpty())
+		{
+			buckets.remove(entry.dimensionId);
+		}
+	}
+
+	/**
+	 * Gets the players whose view, as in Range4D.getChunkRange(), intersects the given range.
+	 * @param range - range to check
+	 * @param viewDistance - the server's view distance in chunks
+	 * @param found - list to add the players to
+	 */
+	public void getReceivers(Range4D range, int viewDistance, List<EntityPlayerMP> found)
+	{
+		Long2ObjectMap<List<EntityPlayerMP>> dimensionBuckets = buckets.get(range.dimensionId);
+
+		if(dimensionBuckets == null)
+		{
+			return;
+		}
+
+		for(ObjectIterator<Long2ObjectMap.Entry<List<EntityPlayerMP>>> iter = dimensionBuckets.long2ObjectEntrySet().iterator(); iter.hasNext();)
+		{
+			Long2ObjectMap.Entry<List<EntityPlayerMP>> bucket = iter.next();
+
+			if(viewIntersects(bucket.getLongKey(), viewDistance, range))
+			{
+				found.addAll(bucket.getValue());
+			}
+		}
+	}
+
+	/**
+	 * Gets the players whose view intersects each of the given ranges, at the same index as the range. All ranges
+	 * must be in the same dimension.
+	 * @param ranges - ranges to check
+	 * @param viewDistance - the server's view distance in chunks
+	 * @return the players for each range
+	 */
+	public List<List<EntityPlayerMP>> getReceivers(List<Range4D> ranges, int viewDistance)
+	{
+		List<List<EntityPlayerMP>> ret = new ArrayList<>(ranges.size());
+
+		for(int i = 0; i < ranges.size(); i++)
+		{
+			ret.add(new ArrayList<>());
+		}
+
+		if(ranges.isEmpty())
+		{
+			return ret;
+		}
+
+		Long2ObjectMap<List<EntityPlayerMP>> dimensionBuckets = buckets.get(ranges.get(0).dimensionId);
+
+		if(dimensionBuckets == null)
+		{
+			return ret;
+		}
+
+		//Chunks that can't see the combined bounds can't see any of the ranges
+		Range4D bounds = ranges.get(0).clone();
+
+		for(Range4D range : ranges)
+		{
+			bounds.xMin = Math.min(bounds.xMin, range.xMin);
+			bounds.yMin = Math.min(bounds.yMin, range.yMin);
+			bounds.zMin = Math.min(bounds.zMin, range.zMin);
+			bounds.xMax = Math.max(bounds.xMax, range.xMax);
+			bounds.yMax = Math.max(bounds.yMax, range.yMax);
+			bounds.zMax = Math.max(bounds.zMax, range.zMax);
+		}
+
+		for(ObjectIterator<Long2ObjectMap.Entry<List<EntityPlayerMP>>> iter = dimensionBuckets.long2ObjectEntrySet().iterator(); iter.hasNext();)
+		{
+			Long2ObjectMap.Entry<List<EntityPlayerMP>> bucket = iter.next();
+
+			if(!viewIntersects(bucket.getLongKey(), viewDistance, bounds))
+			{
+				continue;
+			}
+
+			for(int i = 0; i < ranges.size(); i++)
+			{
+				if(ranges.size() == 1 || viewIntersects(bucket.getLongKey(), viewDistance, ranges.get(i)))
+				{
+					ret.get(i).addAll(bucket.getValue());
+				}
+			}
+		}
+
+		return ret;
+	}
+
+	/**
+	 * Gets the players that may be inside the given cuboid; callers still need to check each player's position.
+	 * @param cuboid - cuboid to check
+	 * @param dimensionId - dimension the cuboid is in
+	 * @param found - list to add the players to
+	 */
+	public void getCandidates(AxisAlignedBB cuboid, int dimensionId, List<EntityPlayerMP> found)
+	{
+		Long2ObjectMap<List<EntityPlayerMP>> dimensionBuckets = buckets.get(dimensionId);
+
+		if(dimensionBuckets == null)
+		{
+			return;
+		}
+
+		//One chunk of leeway, for players that moved since their last tick
+		int minX = (((int)cuboid.minX) >> 4) - 1;
+		int minZ = (((int)cuboid.minZ) >> 4) - 1;
+		int maxX = (((int)cuboid.maxX) >> 4) + 1;
+		int maxZ = (((int)cuboid.maxZ) >> 4) + 1;
+
+		for(ObjectIterator<Long2ObjectMap.Entry<List<EntityPlayerMP>>> iter = dimensionBuckets.long2ObjectEntrySet().iterator(); iter.hasNext();)
+		{
+			Long2ObjectMap.Entry<List<EntityPlayerMP>> bucket = iter.next();
+			int chunkX = getChunkX(bucket.getLongKey());
+			int chunkZ = getChunkZ(bucket.getLongKey());
+
+			if(chunkX >= minX && chunkX <= maxX && chunkZ >= minZ && chunkZ <= maxZ)
+			{
+				found.addAll(bucket.getValue());
+			}
+		}
+	}
+
+	/**
+	 * Same check as Range4D.getChunkRange(player).intersects(range) for a player in the given chunk, without
+	 * creating the ranges.
+	 */
+	private static boolean viewIntersects(long chunkKey, int viewDistance, Range4D range)
+	{
+		int xMin = (getChunkX(chunkKey) - viewDistance)*16;
+		int zMin = (getChunkZ(chunkKey) - viewDistance)*16;
+		int xMax = (getChunkX(chunkKey) + 1 + viewDistance)*16;
+		int zMax = (getChunkZ(chunkKey) + 1 + viewDistance)*16;
+
+		return xMax >= range.xMin && range.xMax >= xMin && 255 >= range.yMin && range.yMax >= 0 && zMax >= range.zMin && range.zMax >= zMin;
+	}
+
+	private static int getChunkX(long key)
+	{
+		return (int)(key & 4294967295L);
+	}
+
+	private static int getChunkZ(long key)
+	{
+		return (int)(key >>> 32 & 4294967295L);
+	}
+
+	public void reset()
+	{
+		buckets.clear();
+		entries.clear();
+	}
+
+	private static class Entry
+	{
+		public EntityPlayerMP player;
+
+		public int dimensionId;
+		public int chunkX;
+		public int chunkZ;
+
+		public Entry(EntityPlayerMP p, int dimension, int x, int z)
+		{
+			player = p;
+			dimensionId = dimension;
+			chunkX = x;
+			chunkZ = z;
+		}
+	}
+}
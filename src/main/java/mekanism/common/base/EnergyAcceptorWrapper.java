@@ -21,6 +21,18 @@ public abstract class EnergyAcceptorWrapper implements IStrictEnergyAcceptor
 	public Coord4D coord;
 
 	public static EnergyAcceptorWrapper get(TileEntity tileEntity, EnumFacing side)
+	{
+		return get(tileEntity, side, null);
+	}
+
+	/**
+	 * Wraps the energy acceptor of a tile.
+	 * @param tileEntity - tile to wrap
+	 * @param side - side of the tile energy comes in from
+	 * @param emitter - block sending the energy directly, if it isn't sent through a network
+	 * @return wrapper, or null if the tile doesn't accept energy
+	 */
+	public static EnergyAcceptorWrapper get(TileEntity tileEntity, EnumFacing side, IEnergyWrapper emitter)
 	{
 		if(tileEntity == null || tileEntity.getWorld() == null)
 		{
@@ -51,7 +63,7 @@ public abstract class EnergyAcceptorWrapper implements IStrictEnergyAcceptor
 			
 			if(tile instanceof IEnergySink)
 			{
-				wrapper = new IC2Acceptor((IEnergySink)tile);
+				wrapper = new IC2Acceptor((IEnergySink)tile, emitter);
 			}
 		}
 		
@@ -105,7 +117,7 @@ public abstract class EnergyAcceptorWrapper implements IStrictEnergyAcceptor
 		@Override
 		public double acceptEnergy(EnumFacing side, double amount, boolean simulate)
 		{
-			return fromRF(acceptor.receiveEnergy(side, Math.min(Integer.MAX_VALUE, toRF(amount)), simulate));
+			return fromRF(acceptor.receiveEnergy(side, toRF(amount), simulate));
 		}
 
 		@Override
@@ -122,7 +134,7 @@ public abstract class EnergyAcceptorWrapper implements IStrictEnergyAcceptor
 
 		public int toRF(double joules)
 		{
-			return (int)Math.round(joules*general.TO_RF);
+			return (int)Math.round(Math.min(Integer.MAX_VALUE, joules*general.TO_RF));
 		}
 
 		public double fromRF(int rf)
@@ -135,15 +147,35 @@ public abstract class EnergyAcceptorWrapper implements IStrictEnergyAcceptor
 	{
 		private IEnergySink acceptor;
 
+		/** The block sending energy directly, which is limited to the sink's tier; null for networks. */
+		private IEnergyWrapper emitter;
+
 		public IC2Acceptor(IEnergySink ic2Acceptor)
+		{
+			this(ic2Acceptor, null);
+		}
+
+		public IC2Acceptor(IEnergySink ic2Acceptor, IEnergyWrapper from)
 		{
 			acceptor = ic2Acceptor;
+			emitter = from;
 		}
 
 		@Override
 		public double acceptEnergy(EnumFacing side, double amount, boolean simulate)
 		{
 			double toTransfer = Math.min(Math.min(acceptor.getDemandedEnergy(), toEU(amount)), Integer.MAX_VALUE);
+
+			if(emitter != null)
+			{
+				toTransfer = Math.min(toTransfer, EnergyNet.instance.getPowerFromTier(acceptor.getSinkTier()));
+			}
+			
+			if(simulate)
+			{
+				return fromEU(toTransfer);
+			}
+			
 			double rejects = acceptor.injectEnergy(side, toTransfer, 0);
 			
 			return fromEU(toTransfer - rejects);
@@ -152,7 +184,7 @@ public abstract class EnergyAcceptorWrapper implements IStrictEnergyAcceptor
 		@Override
 		public boolean canReceiveEnergy(EnumFacing side)
 		{
-			return acceptor.acceptsEnergyFrom(null, side);
+			return acceptor.acceptsEnergyFrom(emitter, side);
 		}
 
 		@Override
@@ -184,7 +216,7 @@ public abstract class EnergyAcceptorWrapper implements IStrictEnergyAcceptor
 		@Override
 		public double acceptEnergy(EnumFacing side, double amount, boolean simulate) 
 		{
-			return fromTesla(acceptor.givePower(toTesla(amount), false));
+			return fromTesla(acceptor.givePower(toTesla(amount), simulate));
 		}
 
 		@Override
@@ -222,7 +254,7 @@ public abstract class EnergyAcceptorWrapper implements IStrictEnergyAcceptor
 		@Override
 		public double acceptEnergy(EnumFacing side, double amount, boolean simulate)
 		{
-			return fromForge(acceptor.receiveEnergy(Math.min(Integer.MAX_VALUE, toForge(amount)), simulate));
+			return fromForge(acceptor.receiveEnergy(toForge(amount), simulate));
 		}
 
 		@Override
@@ -239,7 +271,7 @@ public abstract class EnergyAcceptorWrapper implements IStrictEnergyAcceptor
 		
 		public int toForge(double joules)
 		{
-			return (int)Math.round(joules*general.TO_FORGE);
+			return (int)Math.round(Math.min(Integer.MAX_VALUE, joules*general.TO_FORGE));
 		}
 		
 		public double fromForge(double forge)
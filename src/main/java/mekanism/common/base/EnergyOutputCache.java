@@ -0,0 +1,212 @@
+package mekanism.common.base;
+
+import java.util.Arrays;
+
+import mekanism.common.config.MekanismConfig.general;
+import mekanism.common.util.CableUtils;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.EnumFacing;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+
+/**
+ * The energy acceptors around a block that emits energy, resolved into wrappers once so that emitting doesn't have to
+ * look up the neighbouring tiles and their capabilities every tick. Refreshed when a neighbour changes, when the
+ * emitter's output sides change, when a cached acceptor goes away, and every so often to pick up capability changes
+ * that don't cause a block update.
+ */
+public class EnergyOutputCache
+{
+	/** How many ticks a resolved set of acceptors is trusted for without any change being noticed. */
+	private static final int REFRESH_DELAY = 20;
+
+	private boolean dirty = true;
+	private int refreshDelay = 0;
+	private int outputMask = -1;
+
+	private int count = 0;
+	private TileEntity[] tiles = new TileEntity[EnumFacing.VALUES.length];
+	private EnergyAcceptorWrapper[] acceptors = new EnergyAcceptorWrapper[EnumFacing.VALUES.length];
+	private EnumFacing[] sides = new EnumFacing[EnumFacing.VALUES.length];
+
+	private int[] wanting = new int[EnumFacing.VALUES.length];
+	private double[] demands = new double[EnumFacing.VALUES.length];
+	private double[] sortedDemands = new double[EnumFacing.VALUES.length];
+
+	public void markDirty()
+	{
+		dirty = true;
+	}
+
+	/**
+	 * Sends energy to the acceptors around the emitter.
+	 * @param emitter - block that's emitting
+	 * @param energyToSend - energy available to send
+	 * @return sent
+	 */
+	public double emit(IEnergyWrapper emitter, double energyToSend)
+	{
+		validate((TileEntity)emitter, emitter);
+
+		int wantCount = 0;
+
+		for(int i = 0; i < count; i++)
+		{
+			if(acceptors[i].canReceiveEnergy(sides[i]))
+			{
+				wanting[wantCount++] = i;
+			}
+		}
+
+		if(wantCount == 0)
+		{
+			return 0;
+		}
+
+		return general.proportionalEnergyDistribution ? distribute(wantCount, energyToSend) : split(wantCount, energyToSend);
+	}
+
+	/**
+	 * Asks every acceptor how much it wants once and water-fills the energy across those demands.
+	 */
+	private double distribute(int wantCount, double energyToSend)
+	{
+		for(int i = 0; i < wantCount; i++)
+		{
+			int entry = wanting[i];
+			demands[i] = Math.max(0, acceptors[entry].acceptEnergy(sides[entry], energyToSend, true));
+		}
+
+		double level = CableUtils.getFillLevel(demands, sortedDemands, wantCount, energyToSend);
+		double sent = 0;
+
+		for(int i = 0; i < wantCount; i++)
+		{
+			double toSend = Math.min(demands[i], level);
+
+			if(toSend > 0)
+			{
+				int entry = wanting[i];
+				sent += acceptors[entry].acceptEnergy(sides[entry], toSend, false);
+			}
+		}
+
+		return sent;
+	}
+
+	/**
+	 * The old even split, repeated while the acceptors keep taking energy. Acceptors that take nothing are dropped
+	 * for the rest of the tick.
+	 */
+	private double split(int wantCount, double energyToSend)
+	{
+		double sent = 0;
+		int i = 0;
+		boolean tryAgain;
+
+		do {
+			double prev = sent;
+			double toSend = energyToSend-sent;
+			double remains = toSend%wantCount;
+			double splitSend = (toSend-remains)/wantCount;
+			int kept = 0;
+
+			for(int j = 0; j < wantCount; j++)
+			{
+				int entry = wanting[j];
+				double accepted = acceptors[entry].acceptEnergy(sides[entry], splitSend+remains, false);
+				remains = 0;
+
+				if(accepted > 0)
+				{
+					sent += accepted;
+					wanting[kept++] = entry;
+				}
+			}
+
+			wantCount = kept;
+			tryAgain = energyToSend-sent > 0 && sent-prev > 0 && wantCount > 0 && i < 100;
+
+			i++;
+		} while(tryAgain);
+
+		return sent;
+	}
+
+	private void validate(TileEntity tile, IEnergyWrapper emitter)
+	{
+		World world = tile.getWorld();
+		int mask = 0;
+
+		for(EnumFacing side : EnumFacing.VALUES)
+		{
+			if(emitter.sideIsOutput(side))
+			{
+				mask |= 1 << side.ordinal();
+			}
+		}
+
+		if(mask != outputMask || --refreshDelay <= 0)
+		{
+			dirty = true;
+		}
+
+		for(int i = 0; i < count && !dirty; i++)
+		{
+			if(tiles[i].isInvalid() || !world.isBlockLoaded(tiles[i].getPos()))
+			{
+				dirty = true;
+			}
+		}
+
+		if(dirty)
+		{
+			refresh(tile, emitter, mask);
+		}
+	}
+
+	private void refresh(TileEntity tile, IEnergyWrapper emitter, int mask)
+	{
+		World world = tile.getWorld();
+
+		Arrays.fill(tiles, null);
+		Arrays.fill(acceptors, null);
+		count = 0;
+
+		for(EnumFacing side : EnumFacing.VALUES)
+		{
+			if((mask & (1 << side.ordinal())) == 0)
+			{
+				continue;
+			}
+
+			BlockPos pos = tile.getPos().offset(side);
+
+			if(!world.isBlockLoaded(pos))
+			{
+				continue;
+			}
+
+			TileEntity neighbour = world.getTileEntity(pos);
+
+			if(neighbour == null || !(CableUtils.isValidAcceptorOnSide(tile, neighbour, side) || CableUtils.isCable(neighbour)))
+			{
+				continue;
+			}
+
+			EnergyAcceptorWrapper acceptor = EnergyAcceptorWrapper.get(neighbour, side.getOpposite(), emitter);
+
+			if(acceptor != null)
+			{
+				tiles[count] = neighbour;
+				acceptors[count] = acceptor;
+				sides[count] = side.getOpposite();
+				count++;
+			}
+		}
+
+		outputMask = mask;
+		refreshDelay = REFRESH_DELAY;
+		dirty = false;
+	}
+}
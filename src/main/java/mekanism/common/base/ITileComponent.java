@@ -17,6 +17,13 @@ public interface ITileComponent
 	void write(NBTTagCompound nbtTags);
 
 	void write(TileNetworkList data);
+
+	default void write(TileNetworkWriter writer)
+	{
+		TileNetworkList data = new TileNetworkList();
+		write(data);
+		writer.writeList(data);
+	}
 	
 	void invalidate();
 }
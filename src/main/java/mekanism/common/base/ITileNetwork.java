@@ -23,4 +23,14 @@ public interface ITileNetwork
 	 * @return ArrayList of network data
 	 */
     TileNetworkList getNetworkedData(TileNetworkList data);
+
+	/**
+	 * Writes the data this tile entity keeps synchronized with the client straight into a buffer. By default this
+	 * builds the data with getNetworkedData(); override it alongside getNetworkedData() to skip the list.
+	 * @param writer - writer to write the data to
+	 */
+	default void writeNetworkedData(TileNetworkWriter writer)
+	{
+		writer.writeList(getNetworkedData(new TileNetworkList()));
+	}
 }
@@ -0,0 +1,280 @@
+package mekanism.common.base;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+
+import java.lang.reflect.Method;
+import java.util.List;
+
+import mekanism.api.Coord4D;
+import mekanism.common.Mekanism;
+import mekanism.common.PacketHandler;
+import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraftforge.fml.common.network.ByteBufUtils;
+
+/**
+ * Writes a tile's network data straight into a buffer, in the same format PacketHandler.encode() gives the values of
+ * a TileNetworkList, so the data doesn't have to be boxed into a list and then looked at again to be encoded.
+ *
+ * A writer can also keep track of where each field it writes starts, so that the data can be compared to what was
+ * written before field by field and only the fields that changed need to be sent.
+ */
+public class TileNetworkWriter
+{
+	/** Whether a class's writeNetworkedData() is at least as specific as its getNetworkedData(). */
+	private static final ClassValue<Boolean> USES_WRITER = new ClassValue<Boolean>() {
+		@Override
+		protected Boolean computeValue(Class<?> type)
+		{
+			try {
+				Method list = type.getMethod("getNetworkedData", TileNetworkList.class);
+				Method writer = type.getMethod("writeNetworkedData", TileNetworkWriter.class);
+
+				return !writer.getDeclaringClass().isInterface() && list.getDeclaringClass().isAssignableFrom(writer.getDeclaringClass());
+			} catch(NoSuchMethodException e) {
+				return false;
+			}
+		}
+	};
+
+	private ByteBuf buffer;
+
+	/** Where each field starts in the buffer, or null if fields aren't tracked. */
+	private IntArrayList fields;
+
+	public TileNetworkWriter(ByteBuf buf)
+	{
+		buffer = buf;
+	}
+
+	public TileNetworkWriter(ByteBuf buf, boolean trackFields)
+	{
+		buffer = buf;
+		fields = trackFields ? new IntArrayList() : null;
+	}
+
+	public ByteBuf getBuffer()
+	{
+		return buffer;
+	}
+
+	public void clear()
+	{
+		buffer.clear();
+
+		if(fields != null)
+		{
+			fields.clear();
+		}
+	}
+
+	private void startField()
+	{
+		if(fields != null)
+		{
+			fields.add(buffer.writerIndex());
+		}
+	}
+
+	private int getFieldEnd(int field)
+	{
+		return field+1 < fields.size() ? fields.getInt(field+1) : buffer.writerIndex();
+	}
+
+	/**
+	 * Writes the runs of fields that differ between what was written before and what's been written now, which is
+	 * enough to turn the old data into the new data with applyDelta(). Both writers must track their fields.
+	 * @param previous - writer holding the data that was written before
+	 * @param output - buffer to write the changes to
+	 * @return false if the fields don't line up, in which case the whole data has to be sent again
+	 */
+	public boolean writeDelta(TileNetworkWriter previous, ByteBuf output)
+	{
+		int count = fields.size();
+
+		if(previous.fields.size() != count)
+		{
+			return false;
+		}
+
+		int runCountIndex = output.writerIndex();
+		int runs = 0;
+		output.writeInt(0);
+
+		for(int i = 0; i < count; i++)
+		{
+			if(fieldEquals(previous, i))
+			{
+				continue;
+			}
+
+			int first = i;
+
+			while(i+1 < count && !fieldEquals(previous, i+1))
+			{
+				i++;
+			}
+
+			int oldStart = previous.fields.getInt(first), oldEnd = previous.getFieldEnd(i);
+			int newStart = fields.getInt(first), newEnd = getFieldEnd(i);
+
+			ByteBufUtils.writeVarInt(output, oldStart, 5);
+			ByteBufUtils.writeVarInt(output, oldEnd-oldStart, 5);
+			ByteBufUtils.writeVarInt(output, newEnd-newStart, 5);
+			output.writeBytes(buffer, newStart, newEnd-newStart);
+
+			runs++;
+		}
+
+		output.setInt(runCountIndex, runs);
+
+		return true;
+	}
+
+	private boolean fieldEquals(TileNetworkWriter previous, int field)
+	{
+		int start = fields.getInt(field), length = getFieldEnd(field)-start;
+		int prevStart = previous.fields.getInt(field), prevLength = previous.getFieldEnd(field)-prevStart;
+
+		return length == prevLength && ByteBufUtil.equals(buffer, start, previous.buffer, prevStart, length);
+	}
+
+	/**
+	 * Applies changes written by writeDelta() to the data they were made against.
+	 * @param data - the data that was written before
+	 * @param delta - the changes
+	 * @param output - buffer to write the new data to
+	 */
+	public static void applyDelta(ByteBuf data, ByteBuf delta, ByteBuf output)
+	{
+		int runs = delta.readInt();
+		int index = data.readerIndex();
+
+		for(int i = 0; i < runs; i++)
+		{
+			int oldStart = data.readerIndex()+ByteBufUtils.readVarInt(delta, 5);
+			int oldLength = ByteBufUtils.readVarInt(delta, 5);
+			int newLength = ByteBufUtils.readVarInt(delta, 5);
+
+			output.writeBytes(data, index, oldStart-index);
+			output.writeBytes(delta, newLength);
+			index = oldStart+oldLength;
+		}
+
+		output.writeBytes(data, index, data.writerIndex()-index);
+	}
+
+	/**
+	 * Writes a tile's network data. Tiles that have a subclass which only adds to getNetworkedData() are written
+	 * through the list, so that nothing the subclass adds is left out.
+	 * @param tile - tile to write the data of
+	 * @param scratch - empty list to use if the data has to be built as a list
+	 */
+	public void writeTile(ITileNetwork tile, TileNetworkList scratch)
+	{
+		if(USES_WRITER.get(tile.getClass()))
+		{
+			tile.writeNetworkedData(this);
+		}
+		else {
+			writeList(tile.getNetworkedData(scratch));
+		}
+	}
+
+	public void writeInt(int value)
+	{
+		startField();
+		buffer.writeInt(value);
+	}
+
+	public void writeDouble(double value)
+	{
+		startField();
+		buffer.writeDouble(value);
+	}
+
+	public void writeBoolean(boolean value)
+	{
+		startField();
+		buffer.writeBoolean(value);
+	}
+
+	public void writeFloat(float value)
+	{
+		startField();
+		buffer.writeFloat(value);
+	}
+
+	public void writeLong(long value)
+	{
+		startField();
+		buffer.writeLong(value);
+	}
+
+	public void writeString(String value)
+	{
+		startField();
+		PacketHandler.writeString(buffer, value);
+	}
+
+	public void writeStack(ItemStack stack)
+	{
+		startField();
+		PacketHandler.writeStack(buffer, stack);
+	}
+
+	public void writeNBT(NBTTagCompound nbtTags)
+	{
+		startField();
+		PacketHandler.writeNBT(buffer, nbtTags);
+	}
+
+	public void writeInts(int[] values)
+	{
+		startField();
+
+		for(int value : values)
+		{
+			buffer.writeInt(value);
+		}
+	}
+
+	public void writeBytes(byte[] values)
+	{
+		startField();
+		buffer.writeBytes(values);
+	}
+
+	public void writeCoord(Coord4D coord)
+	{
+		startField();
+		coord.write(buffer);
+	}
+
+	/**
+	 * Writes data that was built as a list, for code that hasn't moved over to the writer. Each value in the list is
+	 * its own field.
+	 * @param data - list of data
+	 */
+	public void writeList(List<?> data)
+	{
+		if(fields == null)
+		{
+			PacketHandler.encode(data, buffer);
+			return;
+		}
+
+		try {
+			for(int i = 0; i < data.size(); i++)
+			{
+				startField();
+				PacketHandler.encodeValue(data.get(i), buffer);
+			}
+		} catch(Exception e) {
+			Mekanism.logger.error("Error while encoding packet data: " + data);
+			e.printStackTrace();
+		}
+	}
+}
@@ -210,7 +210,7 @@ public abstract class BlockBasic extends Block
 
 			if(tileEntity instanceof IMultiblock)
 			{
-				((IMultiblock<?>)tileEntity).doUpdate();
+				((IMultiblock<?>)tileEntity).doUpdate(fromPos);
 			}
 
 			if(tileEntity instanceof TileEntityBasicBlock)
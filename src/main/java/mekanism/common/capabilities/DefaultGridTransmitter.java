@@ -136,6 +136,12 @@ public class DefaultGridTransmitter<A, N extends DynamicNetwork<A, N>> implement
         return null;
     }
 
+    @Override
+    public IGridTransmitter<A, N> getExternalTransmitter(Coord4D from)
+    {
+        return null;
+    }
+
     @Override
     public void takeShare()
     {
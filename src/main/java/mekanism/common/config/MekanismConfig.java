@@ -61,6 +61,9 @@ public class MekanismConfig
 		public static int maxPumpRange;
 		public static boolean pumpWaterSources;
 		public static int maxPlenisherNodes;
+		public static boolean plenisherBatchedMode = false;
+		public static boolean multiTypeNetworks = false;
+		public static boolean fairTypeScheduling = true;
 		public static double evaporationHeatDissipation = 0.02;
 		public static double evaporationTempMultiplier = 0.1;
 		public static double evaporationSolarMultiplier = 0.2;
@@ -74,6 +77,8 @@ public class MekanismConfig
 		public static boolean allowProtection = true;
 		public static int portableTeleporterDelay;
 		public static double quantumEntangloporterEnergyTransfer;
+		public static boolean proportionalEnergyDistribution = true;
+		public static int minerSearchThreads = 2;
 	}
 
 	public static class client
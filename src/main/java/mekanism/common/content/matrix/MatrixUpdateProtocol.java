@@ -84,8 +84,7 @@ public class MatrixUpdateProtocol extends UpdateProtocol<SynchronizedMatrixData>
 			
 			if(tile instanceof TileEntityInductionCell)
 			{
-				structure.cells.add(coord);
-				structure.storageCap += ((TileEntityInductionCell)tile).tier.maxEnergy;
+				structure.addCell(coord, (TileEntityInductionCell)tile);
 			}
 			else if(tile instanceof TileEntityInductionProvider)
 			{
@@ -96,4 +95,12 @@ public class MatrixUpdateProtocol extends UpdateProtocol<SynchronizedMatrixData>
 		
 		return true;
 	}
+	
+	@Override
+	public void onStructureDestroyed(SynchronizedMatrixData structure)
+	{
+		super.onStructureDestroyed(structure);
+		
+		structure.writeEnergy(pointer.getWorld());
+	}
 }
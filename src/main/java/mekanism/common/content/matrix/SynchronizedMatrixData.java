@@ -1,6 +1,11 @@
 package mekanism.common.content.matrix;
 
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 import mekanism.api.Coord4D;
@@ -9,6 +14,7 @@ import mekanism.common.tile.TileEntityInductionCell;
 import net.minecraft.item.ItemStack;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.NonNullList;
+import net.minecraft.util.math.ChunkPos;
 import net.minecraft.world.World;
 
 public class SynchronizedMatrixData extends SynchronizedData<SynchronizedMatrixData>
@@ -29,44 +35,106 @@ public class SynchronizedMatrixData extends SynchronizedData<SynchronizedMatrixD
 	public double storageCap;
 	public double transferCap;
 	
+	/** Energy of the whole matrix; cells only hold their part of it once it's written back. */
+	public double energy;
+	
+	/** One cell from each chunk that has cells in it. */
+	public List<Coord4D> cellChunks = new ArrayList<>();
+	
+	public LongSet cellChunkKeys = new LongOpenHashSet();
+	
+	/** Whether the cells' chunks were marked for saving since a cell was last saved. */
+	public boolean cellChunksDirty;
+	
 	@Override
 	public NonNullList<ItemStack> getInventory()
 	{
 		return inventory;
 	}
 	
-	public double getEnergy(World world)
+	public double getEnergy()
+	{
+		return energy;
+	}
+	
+	/**
+	 * Sets the energy of the whole matrix. The cells aren't touched, but the chunks they're in are marked for saving the
+	 * first time the energy changes after they were last saved.
+	 */
+	public void setEnergy(World world, double energy)
 	{
-		double ret = 0;
+		this.energy = energy;
 		
-		for(Coord4D coord : cells)
+		if(!cellChunksDirty)
 		{
-			TileEntity tile = coord.getTileEntity(world);
-			
-			if(tile instanceof TileEntityInductionCell)
+			for(Coord4D coord : cellChunks)
 			{
-				ret += ((TileEntityInductionCell)tile).getEnergy();
+				world.markChunkDirty(coord.getPos(), null);
 			}
+			
+			cellChunksDirty = true;
 		}
+	}
+	
+	/**
+	 * Gets the part of the matrix's energy held by the given cell, in proportion to its capacity.
+	 */
+	public double getCellEnergy(TileEntityInductionCell cell)
+	{
+		return storageCap > 0 ? energy*cell.getMaxEnergy()/storageCap : 0;
+	}
+	
+	public void addCell(Coord4D coord, TileEntityInductionCell cell)
+	{
+		//Read before joining, so a cell from an older matrix brings its part of that matrix's energy
+		energy += cell.getEnergy();
+		storageCap += cell.getMaxEnergy();
+		cells.add(coord);
+		cell.matrix = this;
 		
-		return ret;
+		if(cellChunkKeys.add(ChunkPos.asLong(coord.x >> 4, coord.z >> 4)))
+		{
+			cellChunks.add(coord);
+		}
 	}
 	
-	public void setEnergy(World world, double energy)
+	/**
+	 * Takes a cell out of the matrix, along with its part of the energy and capacity, for when it's broken or unloaded.
+	 */
+	public void removeCell(TileEntityInductionCell cell)
+	{
+		if(cell.matrix != this)
+		{
+			return;
+		}
+		
+		double cellEnergy = getCellEnergy(cell);
+		
+		cell.electricityStored = cellEnergy;
+		cell.matrix = null;
+		
+		if(cells.remove(Coord4D.get(cell)))
+		{
+			energy = Math.max(0, energy-cellEnergy);
+			storageCap -= cell.getMaxEnergy();
+		}
+	}
+	
+	/**
+	 * Writes each cell's part of the energy back to it and detaches it, for when the matrix is unformed.
+	 */
+	public void writeEnergy(World world)
 	{
 		for(Coord4D coord : cells)
 		{
 			TileEntity tile = coord.getTileEntity(world);
 			
-			if(tile instanceof TileEntityInductionCell)
+			if(tile instanceof TileEntityInductionCell && ((TileEntityInductionCell)tile).matrix == this)
 			{
 				TileEntityInductionCell cell = (TileEntityInductionCell)tile;
 				
-				cell.setEnergy(0);
-				
-				double toAdd = Math.min(cell.getMaxEnergy(), energy);
-				cell.setEnergy(toAdd);
-				energy -= toAdd;
+				cell.electricityStored = getCellEnergy(cell);
+				cell.matrix = null;
 			}
 		}
 	}
@@ -0,0 +1,118 @@
+package mekanism.common.content.miner;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * The blocks a Digital Miner search found, in the order they are mined. Each entry is the block's index in the
+ * miner's area and the filter it matched, kept in int arrays used as a ring buffer.
+ */
+public class MinerQueue
+{
+	private int[] positions = new int[16];
+	private int[] filterIds = new int[16];
+
+	private int head;
+	private int size;
+
+	private List<MinerFilter> filterTable = new ArrayList<>();
+
+	/** Block state IDs the search accepted; a queued block is only mined while it is still one of these. */
+	public BitSet acceptedStates = new BitSet();
+
+	public void add(int index, MinerFilter filter)
+	{
+		if(size == positions.length)
+		{
+			grow();
+		}
+
+		int filterId = -1;
+
+		if(filter != null)
+		{
+			filterId = filterTable.indexOf(filter);
+
+			if(filterId == -1)
+			{
+				filterId = filterTable.size();
+				filterTable.add(filter);
+			}
+		}
+
+		int slot = (head + size) % positions.length;
+		positions[slot] = index;
+		filterIds[slot] = filterId;
+		size++;
+	}
+
+	private void grow()
+	{
+		int[] newPositions = new int[positions.length*2];
+		int[] newFilterIds = new int[positions.length*2];
+
+		for(int i = 0; i < size; i++)
+		{
+			newPositions[i] = positions[(head + i) % positions.length];
+			newFilterIds[i] = filterIds[(head + i) % positions.length];
+		}
+
+		positions = newPositions;
+		filterIds = newFilterIds;
+		head = 0;
+	}
+
+	public boolean isEmpty()
+	{
+		return size == 0;
+	}
+
+	public int size()
+	{
+		return size;
+	}
+
+	public int peekIndex()
+	{
+		return positions[head];
+	}
+
+	public MinerFilter peekFilter()
+	{
+		int filterId = filterIds[head];
+
+		return filterId >= 0 ? filterTable.get(filterId) : null;
+	}
+
+	public void pop()
+	{
+		if(size > 0)
+		{
+			head = (head + 1) % positions.length;
+			size--;
+		}
+	}
+
+	/**
+	 * Moves the next entry to the back of the queue, so it's retried after the others.
+	 */
+	public void requeue()
+	{
+		if(size > 1)
+		{
+			int tail = (head + size) % positions.length;
+			positions[tail] = positions[head];
+			filterIds[tail] = filterIds[head];
+			head = (head + 1) % positions.length;
+		}
+	}
+
+	public void clear()
+	{
+		head = 0;
+		size = 0;
+		filterTable.clear();
+		acceptedStates.clear();
+	}
+}
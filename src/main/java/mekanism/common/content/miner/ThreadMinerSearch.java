@@ -1,42 +1,85 @@
 package mekanism.common.content.miner;
 
+import io.netty.buffer.Unpooled;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+
+import java.util.ArrayList;
 import java.util.BitSet;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
 
-import mekanism.api.Chunk3D;
 import mekanism.api.Coord4D;
-import mekanism.api.util.BlockInfo;
+import mekanism.common.Mekanism;
+import mekanism.common.config.MekanismConfig.general;
 import mekanism.common.tile.TileEntityBoundingBlock;
 import mekanism.common.tile.TileEntityDigitalMiner;
 import mekanism.common.util.MekanismUtils;
+import net.minecraft.block.Block;
 import net.minecraft.block.BlockLiquid;
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.item.ItemStack;
-import net.minecraft.tileentity.TileEntity;
+import net.minecraft.network.PacketBuffer;
 import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.BlockStateContainer;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.storage.ExtendedBlockStorage;
 import net.minecraftforge.fluids.IFluidBlock;
 
-public class ThreadMinerSearch extends Thread
+/**
+ * Searches a Digital Miner's area for blocks to mine. The loaded chunk sections in range are copied on the server
+ * thread, then scanned in parallel on a worker pool shared by every miner, and the results are handed back to the
+ * miner on the server thread once the scan is done.
+ */
+public class ThreadMinerSearch
 {
+	private static ForkJoinPool pool;
+
 	public TileEntityDigitalMiner tileEntity;
 
 	public State state = State.IDLE;
 
-	public Map<Chunk3D, BitSet> oresToMine = new HashMap<>();
-	public Map<Integer, MinerFilter> replaceMap = new HashMap<>();
-
-	public Map<BlockInfo, MinerFilter> acceptedItems = new HashMap<>();
+	public MinerQueue toMine = new MinerQueue();
 
 	public int found = 0;
 
+	/** Percentage of the searched sections that have been scanned so far. */
+	public int progress = 0;
+
+	private List<SectionSnapshot> sections = new ArrayList<>();
+
+	/** Block state IDs that can be mined, and the filter each one matched. */
+	private BitSet acceptedStates = new BitSet();
+	private Int2ObjectMap<MinerFilter> stateFilters = new Int2ObjectOpenHashMap<>();
+
+	/** Accepted block state IDs with tile entities, which are checked again in the world once the scan is done. */
+	private BitSet checkedStates = new BitSet();
+
+	private Coord4D startingCoord;
+	private int diameter;
+	private int maxY;
+
+	private AtomicInteger foundCount = new AtomicInteger();
+	private AtomicInteger scannedCount = new AtomicInteger();
+
+	private ForkJoinTask<?> task;
+	private volatile boolean cancelled;
+
 	public ThreadMinerSearch(TileEntityDigitalMiner tile)
 	{
 		tileEntity = tile;
 	}
 
-	@Override
-	public void run()
+	/**
+	 * Takes the snapshots and starts the scan. Must be called from the server thread.
+	 */
+	public void start()
 	{
 		state = State.SEARCHING;
 
@@ -46,104 +89,290 @@ public class ThreadMinerSearch extends Thread
 			return;
 		}
 
-		Coord4D coord = tileEntity.getStartingCoord();
-		int diameter = tileEntity.getDiameter();
-		int size = tileEntity.getTotalSize();
-		BlockInfo info = new BlockInfo(null, 0);
+		startingCoord = tileEntity.getStartingCoord();
+		diameter = tileEntity.getDiameter();
+		maxY = tileEntity.maxY;
+
+		takeSnapshots();
+		buildAcceptedStates();
+
+		task = getPool().submit(new SectionScanner(0, sections.size()));
+	}
+
+	/**
+	 * Stops a running scan; its results are thrown away.
+	 */
+	public void cancel()
+	{
+		cancelled = true;
+
+		if(task != null)
+		{
+			task.cancel(false);
+			task = null;
+		}
+	}
+
+	/**
+	 * Updates the progress of a running scan, and hands its results over to the miner once it's done. Called every
+	 * tick from the server thread.
+	 */
+	public void update()
+	{
+		if(state != State.SEARCHING || task == null)
+		{
+			return;
+		}
+
+		found = foundCount.get();
+		progress = sections.isEmpty() ? 100 : scannedCount.get()*100/sections.size();
 
-		for(int i = 0; i < size; i++)
+		if(!task.isDone())
 		{
-			int x = coord.x +i%diameter;
-			int z = coord.z +(i/diameter)%diameter;
-			int y = coord.y +(i/diameter/diameter);
+			return;
+		}
+
+		if(task.isCompletedAbnormally() && !task.isCancelled())
+		{
+			Mekanism.logger.error("Digital Miner search failed at " + Coord4D.get(tileEntity), task.getException());
+		}
+
+		task = null;
+
+		if(!cancelled)
+		{
+			finish();
+		}
+	}
+
+	private void takeSnapshots()
+	{
+		World world = tileEntity.getWorld();
+
+		int minSection = Math.max(startingCoord.y, 0) >> 4;
+		int maxSection = Math.min(maxY, 255) >> 4;
 
-			if(tileEntity.isInvalid())
+		for(int chunkX = startingCoord.x >> 4; chunkX <= (startingCoord.x+diameter-1) >> 4; chunkX++)
+		{
+			for(int chunkZ = startingCoord.z >> 4; chunkZ <= (startingCoord.z+diameter-1) >> 4; chunkZ++)
 			{
-				return;
-			}
+				Chunk chunk = world.getChunkProvider().getLoadedChunk(chunkX, chunkZ);
 
-			try {
-				if(tileEntity.getPos().getX() == x && tileEntity.getPos().getY() == y && tileEntity.getPos().getZ() == z)
+				if(chunk == null)
 				{
 					continue;
 				}
-	
-				if(tileEntity.getWorld().getChunkProvider().getLoadedChunk(x >> 4, z >> 4) == null)
+
+				ExtendedBlockStorage[] storageArray = chunk.getBlockStorageArray();
+
+				for(int sectionY = minSection; sectionY <= maxSection; sectionY++)
 				{
-					continue;
+					ExtendedBlockStorage storage = storageArray[sectionY];
+
+					if(storage != Chunk.NULL_BLOCK_STORAGE && !storage.isEmpty())
+					{
+						sections.add(new SectionSnapshot(chunkX << 4, sectionY << 4, chunkZ << 4, storage.getData()));
+					}
+				}
+			}
+		}
+	}
+
+	private void buildAcceptedStates()
+	{
+		World world = tileEntity.getWorld();
+		BlockPos pos = tileEntity.getPos();
+		BitSet present = new BitSet();
+
+		for(SectionSnapshot section : sections)
+		{
+			section.collectStates(present);
+		}
+
+		for(int id = present.nextSetBit(0); id >= 0; id = present.nextSetBit(id+1))
+		{
+			IBlockState blockState = Block.BLOCK_STATE_IDS.getByValue(id);
+
+			if(blockState == null)
+			{
+				continue;
+			}
+
+			Block block = blockState.getBlock();
+			boolean hasTile = block.hasTileEntity(blockState);
+
+			if(block instanceof BlockLiquid || block instanceof IFluidBlock)
+			{
+				continue;
+			}
+
+			if(!hasTile && (block.isAir(blockState, world, pos) || blockState.getBlockHardness(world, pos) < 0))
+			{
+				continue;
+			}
+
+			ItemStack stack = new ItemStack(block, 1, block.getMetaFromState(blockState));
+
+			if(tileEntity.isReplaceStack(stack))
+			{
+				continue;
+			}
+
+			MinerFilter filterFound = null;
+
+			for(MinerFilter filter : tileEntity.filters)
+			{
+				if(filter.canFilter(stack))
+				{
+					filterFound = filter;
+					break;
 				}
-	
-				TileEntity tile = tileEntity.getWorld().getTileEntity(new BlockPos(x, y, z));
-				
-				if(tile instanceof TileEntityBoundingBlock)
+			}
+
+			if(tileEntity.inverse ? filterFound == null : filterFound != null)
+			{
+				acceptedStates.set(id);
+
+				if(filterFound != null)
 				{
-					continue;
+					stateFilters.put(id, filterFound);
 				}
 
-				IBlockState state = tileEntity.getWorld().getBlockState(new BlockPos(x, y, z));
-				info.block = state.getBlock();
-				info.meta = state.getBlock().getMetaFromState(state);
-	
-				if(info.block instanceof BlockLiquid || info.block instanceof IFluidBlock)
+				if(hasTile)
 				{
-					continue;
+					checkedStates.set(id);
 				}
-	
-				if(info.block != null && !tileEntity.getWorld().isAirBlock(new BlockPos(x, y, z)) && state.getBlockHardness(tileEntity.getWorld(), new BlockPos(x, y, z)) >= 0)
+			}
+		}
+	}
+
+	private void finish()
+	{
+		World world = tileEntity.getWorld();
+		int count = 0;
+
+		for(SectionSnapshot section : sections)
+		{
+			for(int i = 0; i < section.found.size(); i++)
+			{
+				int index = section.found.getInt(i);
+				int stateId = section.foundStates.getInt(i);
+
+				if(checkedStates.get(stateId))
 				{
-					MinerFilter filterFound = null;
-					boolean canFilter;
-	
-					if(acceptedItems.containsKey(info))
+					BlockPos pos = new BlockPos(startingCoord.x + index%diameter, startingCoord.y + index/diameter/diameter, startingCoord.z + (index/diameter)%diameter);
+
+					if(world.getTileEntity(pos) instanceof TileEntityBoundingBlock || world.isAirBlock(pos) || world.getBlockState(pos).getBlockHardness(world, pos) < 0)
 					{
-						filterFound = acceptedItems.get(info);
+						continue;
 					}
-					else {
-						ItemStack stack = new ItemStack(info.block, 1, info.meta);
-	
-						if(tileEntity.isReplaceStack(stack))
+				}
+
+				toMine.add(index, stateFilters.get(stateId));
+				count++;
+			}
+		}
+
+		sections.clear();
+
+		toMine.acceptedStates = acceptedStates;
+
+		found = count;
+		progress = 100;
+		state = State.FINISHED;
+		tileEntity.toMine = toMine;
+		MekanismUtils.saveChunk(tileEntity);
+	}
+
+	private void scan(SectionSnapshot section)
+	{
+		if(cancelled || tileEntity.isInvalid())
+		{
+			return;
+		}
+
+		boolean[] paletteAccepts = null;
+
+		if(section.palette != null)
+		{
+			boolean any = false;
+			paletteAccepts = new boolean[section.palette.length];
+
+			for(int i = 0; i < section.palette.length; i++)
+			{
+				paletteAccepts[i] = acceptedStates.get(section.palette[i]);
+				any |= paletteAccepts[i];
+			}
+
+			if(!any)
+			{
+				scannedCount.incrementAndGet();
+				return;
+			}
+		}
+
+		BlockPos minerPos = tileEntity.getPos();
+
+		int minX = Math.max(startingCoord.x, section.x), maxX = Math.min(startingCoord.x+diameter-1, section.x+15);
+		int minZ = Math.max(startingCoord.z, section.z), maxZ = Math.min(startingCoord.z+diameter-1, section.z+15);
+		int minY = Math.max(startingCoord.y, section.y), maxY = Math.min(this.maxY, section.y+15);
+
+		for(int y = minY; y <= maxY; y++)
+		{
+			for(int z = minZ; z <= maxZ; z++)
+			{
+				for(int x = minX; x <= maxX; x++)
+				{
+					int value = section.get((y-section.y) << 8 | (z-section.z) << 4 | (x-section.x));
+					int stateId;
+
+					if(paletteAccepts != null)
+					{
+						if(value >= paletteAccepts.length || !paletteAccepts[value])
 						{
 							continue;
 						}
-	
-						for(MinerFilter filter : tileEntity.filters)
-						{
-							if(filter.canFilter(stack))
-							{
-								filterFound = filter;
-								break;
-							}
-						}
-	
-						acceptedItems.put(info, filterFound);
+
+						stateId = section.palette[value];
 					}
-					
-					canFilter = tileEntity.inverse ? filterFound == null : filterFound != null;
-	
-					if(canFilter)
+					else if(acceptedStates.get(value))
 					{
-						set(i, new Coord4D(x, y, z, tileEntity.getWorld().provider.getDimension()));
-						replaceMap.put(i, filterFound);
-						
-						found++;
+						stateId = value;
+					}
+					else {
+						continue;
 					}
+
+					if(x == minerPos.getX() && y == minerPos.getY() && z == minerPos.getZ())
+					{
+						continue;
+					}
+
+					section.found.add((x-startingCoord.x) + (z-startingCoord.z)*diameter + (y-startingCoord.y)*diameter*diameter);
+					section.foundStates.add(stateId);
 				}
-			} catch(Exception e) {}
+			}
 		}
 
-		state = State.FINISHED;
-		tileEntity.oresToMine = oresToMine;
-		tileEntity.replaceMap = replaceMap;
-		MekanismUtils.saveChunk(tileEntity);
+		foundCount.addAndGet(section.found.size());
+		scannedCount.incrementAndGet();
 	}
-	
-	public void set(int i, Coord4D location)
+
+	private static ForkJoinPool getPool()
 	{
-		Chunk3D chunk = new Chunk3D(location);
+		if(pool == null)
+		{
+			pool = new ForkJoinPool(Math.max(general.minerSearchThreads, 1), p ->
+			{
+				ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(p);
+				thread.setName("Mekanism Miner Search " + thread.getPoolIndex());
+				thread.setPriority(Thread.MIN_PRIORITY);
+
+				return thread;
+			}, null, false);
+		}
 
-		oresToMine.computeIfAbsent(chunk, k -> new BitSet());
-		
-		oresToMine.get(chunk).set(i);
+		return pool;
 	}
 
 	public void reset()
@@ -151,6 +380,122 @@ public class ThreadMinerSearch extends Thread
 		state = State.IDLE;
 	}
 
+	private class SectionScanner extends RecursiveAction
+	{
+		private int from;
+		private int to;
+
+		public SectionScanner(int start, int end)
+		{
+			from = start;
+			to = end;
+		}
+
+		@Override
+		protected void compute()
+		{
+			if(to - from <= 1)
+			{
+				if(from < to)
+				{
+					scan(sections.get(from));
+				}
+
+				return;
+			}
+
+			int middle = (from + to) >>> 1;
+			invokeAll(new SectionScanner(from, middle), new SectionScanner(middle, to));
+		}
+	}
+
+	/**
+	 * An immutable copy of a 16x16x16 chunk section, in the same packed palette format the section is sent to clients
+	 * in, so taking it costs little more than an array copy.
+	 */
+	private static class SectionSnapshot
+	{
+		public int x;
+		public int y;
+		public int z;
+
+		/** Block state IDs for each palette index, or null if the section stores block state IDs directly. */
+		public int[] palette;
+
+		private int bits;
+		private long mask;
+		private long[] data;
+
+		public IntArrayList found = new IntArrayList();
+		public IntArrayList foundStates = new IntArrayList();
+
+		public SectionSnapshot(int posX, int posY, int posZ, BlockStateContainer container)
+		{
+			x = posX;
+			y = posY;
+			z = posZ;
+
+			PacketBuffer buffer = new PacketBuffer(Unpooled.buffer(container.getSerializedSize()));
+			container.write(buffer);
+
+			bits = buffer.readUnsignedByte();
+			mask = (1L << bits) - 1;
+
+			int paletteSize = buffer.readVarInt();
+
+			if(bits <= 8)
+			{
+				palette = new int[paletteSize];
+
+				for(int i = 0; i < paletteSize; i++)
+				{
+					palette[i] = buffer.readVarInt();
+				}
+			}
+			else {
+				for(int i = 0; i < paletteSize; i++)
+				{
+					buffer.readVarInt();
+				}
+			}
+
+			data = buffer.readLongArray(null);
+		}
+
+		public int get(int index)
+		{
+			int bitIndex = index*bits;
+			int start = bitIndex >> 6;
+			int end = ((index+1)*bits - 1) >> 6;
+			int offset = bitIndex & 63;
+
+			if(start == end)
+			{
+				return (int)(data[start] >>> offset & mask);
+			}
+			else {
+				return (int)((data[start] >>> offset | data[end] << (64 - offset)) & mask);
+			}
+		}
+
+		public void collectStates(BitSet states)
+		{
+			if(palette != null)
+			{
+				for(int id : palette)
+				{
+					states.set(id);
+				}
+			}
+			else {
+				for(int i = 0; i < 4096; i++)
+				{
+					states.set(get(i));
+				}
+			}
+		}
+	}
+
 	public enum State
 	{
 		IDLE("Not ready"),
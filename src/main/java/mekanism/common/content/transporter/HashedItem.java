@@ -0,0 +1,48 @@
+package mekanism.common.content.transporter;
+
+import net.minecraft.item.ItemStack;
+
+/**
+ * An item type usable as a map key: two keys are equal when their stacks could stack together, regardless of size.
+ */
+public class HashedItem
+{
+	public ItemStack itemStack;
+
+	private int hashCode;
+
+	public HashedItem(ItemStack stack)
+	{
+		itemStack = stack;
+
+		int code = 1;
+		code = 31 * code + stack.getItem().hashCode();
+		code = 31 * code + stack.getItemDamage();
+		code = 31 * code + (stack.hasTagCompound() ? stack.getTagCompound().hashCode() : 0);
+		hashCode = code;
+	}
+
+	@Override
+	public boolean equals(Object obj)
+	{
+		if(obj == this)
+		{
+			return true;
+		}
+
+		if(!(obj instanceof HashedItem) || ((HashedItem)obj).hashCode != hashCode)
+		{
+			return false;
+		}
+
+		ItemStack other = ((HashedItem)obj).itemStack;
+
+		return other.isItemEqual(itemStack) && ItemStack.areItemStackTagsEqual(other, itemStack);
+	}
+
+	@Override
+	public int hashCode()
+	{
+		return hashCode;
+	}
+}
@@ -1,61 +1,248 @@
 package mekanism.common.content.transporter;
 
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+
 import java.util.EnumSet;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import mekanism.api.Coord4D;
+import mekanism.common.transmitters.grid.InventoryNetwork;
 import net.minecraft.util.EnumFacing;
 
-public class PathfinderCache 
+public class PathfinderCache
 {
-	public static Map<PathData, List<Coord4D>> cachedPaths = new HashMap<>();
-	
+	public static final int MAX_CACHED_PATHS = 8192;
+
+	/** Cached paths in access order, so the eldest entry is always the least recently used one. */
+	private static LinkedHashMap<PathData, CachedPath> cachedPaths = new LinkedHashMap<>(16, 0.75F, true);
+
+	/** Per dimension, the cached paths that cross each position, keyed by BlockPos.toLong(). */
+	private static Map<Integer, Long2ObjectMap<Set<PathData>>> pathsByLocation = new HashMap<>();
+
+	/** The cached paths that were found in each network. */
+	private static Map<InventoryNetwork, Set<PathData>> pathsByNetwork = new HashMap<>();
+
+	public static long hits = 0;
+	public static long misses = 0;
+	public static long evictions = 0;
+
+	/**
+	 * Drops the cached paths that pass through the given location.
+	 * @param location - location that changed
+	 */
 	public static void onChanged(Coord4D location)
 	{
-		reset();
+		Long2ObjectMap<Set<PathData>> dimensionPaths = pathsByLocation.get(location.dimensionId);
+
+		if(dimensionPaths == null)
+		{
+			return;
+		}
+
+		Set<PathData> crossing = dimensionPaths.get(location.getPos().toLong());
+
+		if(crossing != null)
+		{
+			for(PathData data : crossing.toArray(new PathData[0]))
+			{
+				if(removePath(data))
+				{
+					evictions++;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Drops every cached path found in the given network, for changes that may open up shorter routes.
+	 * @param network - network that changed
+	 */
+	public static void onNetworkChanged(InventoryNetwork network)
+	{
+		Set<PathData> paths = pathsByNetwork.get(network);
+
+		if(paths != null)
+		{
+			for(PathData data : paths.toArray(new PathData[0]))
+			{
+				if(removePath(data))
+				{
+					evictions++;
+				}
+			}
+		}
 	}
-	
+
 	public static List<Coord4D> getCache(Coord4D start, Coord4D end, EnumSet<EnumFacing> sides)
 	{
 		List<Coord4D> ret = null;
-		
+
 		for(EnumFacing side : sides)
 		{
 			PathData data = new PathData(start, end, side);
 
-			List<Coord4D> test = cachedPaths.get(data);
-			
+			CachedPath cached = cachedPaths.get(data);
+			List<Coord4D> test = cached != null ? cached.path : null;
+
 			if(ret == null || (test != null && test.size() < ret.size()))
 			{
 				ret = test;
 			}
 		}
-		
+
+		if(ret != null)
+		{
+			hits++;
+		}
+		else {
+			misses++;
+		}
+
 		return ret;
 	}
-	
+
+	public static void addCachedPath(PathData data, List<Coord4D> path, InventoryNetwork network)
+	{
+		removePath(data);
+
+		cachedPaths.put(data, new CachedPath(path, network));
+
+		Long2ObjectMap<Set<PathData>> dimensionPaths = pathsByLocation.computeIfAbsent(data.startTransporter.dimensionId, dimension -> new Long2ObjectOpenHashMap<>());
+
+		for(Coord4D coord : path)
+		{
+			long key = coord.getPos().toLong();
+			Set<PathData> crossing = dimensionPaths.get(key);
+
+			if(crossing == null)
+			{
+				crossing = new HashSet<>();
+				dimensionPaths.put(key, crossing);
+			}
+
+			crossing.add(data);
+		}
+
+		if(network != null)
+		{
+			pathsByNetwork.computeIfAbsent(network, net -> new HashSet<>()).add(data);
+		}
+
+		if(cachedPaths.size() > MAX_CACHED_PATHS)
+		{
+			Iterator<PathData> eldest = cachedPaths.keySet().iterator();
+
+			if(eldest.hasNext() && removePath(eldest.next()))
+			{
+				evictions++;
+			}
+		}
+	}
+
+	private static boolean removePath(PathData data)
+	{
+		CachedPath cached = cachedPaths.remove(data);
+
+		if(cached == null)
+		{
+			return false;
+		}
+
+		Long2ObjectMap<Set<PathData>> dimensionPaths = pathsByLocation.get(data.startTransporter.dimensionId);
+
+		if(dimensionPaths != null)
+		{
+			for(Coord4D coord : cached.path)
+			{
+				long key = coord.getPos().toLong();
+				Set<PathData> crossing = dimensionPaths.get(key);
+
+				if(crossing != null)
+				{
+					crossing.remove(data);
+
+					if(crossing.isEmpty())
+					{
+						dimensionPaths.remove(key);
+					}
+				}
+			}
+
+			if(dimensionPaths.isEmpty())
+			{
+				pathsByLocation.remove(data.startTransporter.dimensionId);
+			}
+		}
+
+		if(cached.network != null)
+		{
+			Set<PathData> networkPaths = pathsByNetwork.get(cached.network);
+
+			if(networkPaths != null)
+			{
+				networkPaths.remove(data);
+
+				if(networkPaths.isEmpty())
+				{
+					pathsByNetwork.remove(cached.network);
+				}
+			}
+		}
+
+		return true;
+	}
+
+	public static int getSize()
+	{
+		return cachedPaths.size();
+	}
+
 	public static void reset()
 	{
 		cachedPaths.clear();
+		pathsByLocation.clear();
+		pathsByNetwork.clear();
+
+		hits = 0;
+		misses = 0;
+		evictions = 0;
 	}
-	
+
+	private static class CachedPath
+	{
+		public List<Coord4D> path;
+
+		public InventoryNetwork network;
+
+		public CachedPath(List<Coord4D> p, InventoryNetwork net)
+		{
+			path = p;
+			network = net;
+		}
+	}
+
 	public static class PathData
 	{
 		public Coord4D startTransporter;
-		
+
 		public Coord4D end;
 		public EnumFacing endSide;
-		
+
 		public PathData(Coord4D s, Coord4D e, EnumFacing es)
 		{
 			startTransporter = s;
-			
+
 			end = e;
 			endSide = es;
 		}
-		
+
 		@Override
 		public boolean equals(Object obj)
 		{
@@ -1,11 +1,9 @@
 package mekanism.common.content.transporter;
 
 import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 
 import mekanism.api.Coord4D;
 import mekanism.api.EnumColor;
@@ -14,6 +12,8 @@ import mekanism.common.base.ISideConfiguration;
 import mekanism.common.content.transporter.TransitRequest.TransitResponse;
 import mekanism.common.content.transporter.TransporterStack.Path;
 import mekanism.common.tile.TileEntityBin;
+import mekanism.common.tile.transmitter.TileEntityLogisticalTransporter;
+import mekanism.common.transmitters.grid.InventoryNetwork;
 import mekanism.common.util.InventoryUtils;
 import mekanism.common.util.MekanismUtils;
 import mekanism.common.util.StackUtils;
@@ -27,54 +27,71 @@ import net.minecraftforge.items.IItemHandler;
 
 public class TransporterManager
 {
-	public static Map<Coord4D, Set<TransporterStack>> flowingStacks = new HashMap<>();
-	
-	public static void reset()
-	{
-		flowingStacks.clear();
-	}
-
-	public static void add(TransporterStack stack)
+	/**
+	 * Reserves room at a stack's destination in the network it was routed through.
+	 * @param network - network the stack travels in
+	 * @param stack - stack that was given a path
+	 */
+	public static void add(InventoryNetwork network, TransporterStack stack)
 	{
-		Set<TransporterStack> set = new HashSet<>();
-		set.add(stack);
-		
-		if(flowingStacks.get(stack.getDest()) == null)
+		if(stack.pathType == Path.NONE || !stack.hasPath() || stack.itemStack.isEmpty())
 		{
-			flowingStacks.put(stack.getDest(), set);
-		}
-		else {
-			flowingStacks.get(stack.getDest()).addAll(set);
+			return;
 		}
-	}
 
-	public static void remove(TransporterStack stack)
-	{
-		if(stack.hasPath() && stack.pathType != Path.NONE)
+		List<Reservation> reserved = network.reservations.get(stack.getDest());
+
+		if(reserved == null)
 		{
-			flowingStacks.get(stack.getDest()).remove(stack);
+			reserved = new ArrayList<>();
+			network.reservations.put(stack.getDest(), reserved);
 		}
-	}
 
-	public static List<TransporterStack> getStacksToDest(Coord4D dest)
-	{
-		List<TransporterStack> ret = new ArrayList<>();
+		Reservation reservation = null;
 
-		if(flowingStacks.containsKey(dest))
+		for(Iterator<Reservation> iter = reserved.iterator(); iter.hasNext();)
 		{
-			for(TransporterStack stack : flowingStacks.get(dest))
+			Reservation r = iter.next();
+
+			if(r.amount <= 0)
 			{
-				if(stack != null && stack.pathType != Path.NONE && stack.hasPath())
-				{
-					if(stack.getDest().equals(dest))
-					{
-						ret.add(stack);
-					}
-				}
+				iter.remove();
+			}
+			else if(reservation == null && r.matches(stack))
+			{
+				reservation = r;
 			}
 		}
 
-		return ret;
+		if(reservation == null)
+		{
+			reservation = new Reservation(network, stack);
+			reserved.add(reservation);
+		}
+
+		reservation.amount += stack.itemStack.getCount();
+		reservation.dest = stack.getDest();
+
+		stack.reservation = reservation;
+		stack.reservedAmount = stack.itemStack.getCount();
+
+		network.onStackRouted(stack);
+	}
+
+	/**
+	 * Releases the room a stack reserved at its destination, once it arrived or was given up on.
+	 * @param stack - stack to release
+	 */
+	public static void remove(TransporterStack stack)
+	{
+		if(stack.reservation != null)
+		{
+			stack.reservation.amount -= stack.reservedAmount;
+			stack.reservation.network.onDestinationChanged(stack.reservation.dest);
+
+			stack.reservation = null;
+			stack.reservedAmount = 0;
+		}
 	}
 	
 	public static InventoryCopy copyInv(IItemHandler handler)
@@ -135,18 +152,16 @@ public class TransporterManager
 
 	public static void testInsert(TileEntity tile, InventoryCopy copy, EnumFacing side, TransporterStack stack)
 	{
-		ItemStack toInsert = stack.itemStack.copy();
+		testInsert(tile, copy, side, stack.itemStack, stack.color, stack.pathType == Path.HOME);
+	}
 
-		if(stack.pathType != Path.HOME && tile instanceof ISideConfiguration)
-		{
-			ISideConfiguration config = (ISideConfiguration)tile;
-			EnumFacing tileSide = config.getOrientation();
-			EnumColor configColor = config.getEjector().getInputColor(MekanismUtils.getBaseOrientation(side, tileSide).getOpposite());
+	public static void testInsert(TileEntity tile, InventoryCopy copy, EnumFacing side, ItemStack itemStack, EnumColor color, boolean home)
+	{
+		ItemStack toInsert = itemStack.copy();
 
-			if(config.getEjector().hasStrictInput() && configColor != null && configColor != stack.color)
-			{
-				return;
-			}
+		if(!home && !canInsertColor(tile, color, side))
+		{
+			return;
 		}
 		
 //		if(Loader.isModLoaded("MinefactoryReloaded") && tile instanceof IDeepStorageUnit && !(tile instanceof TileEntityBin))
@@ -161,7 +176,7 @@ public class TransporterManager
 
 			if(slots != null && slots.length != 0)
 			{
-				if(stack.pathType != Path.HOME && sidedInventory instanceof TileEntityBin && side.getOpposite() == EnumFacing.DOWN)
+				if(!home && sidedInventory instanceof TileEntityBin && side.getOpposite() == EnumFacing.DOWN)
 				{
 					slots = sidedInventory.getSlotsForFace(EnumFacing.UP);
 				}
@@ -185,7 +200,7 @@ public class TransporterManager
 					{
 						int slotID = slots[get];
 	
-						if(stack.pathType != Path.HOME)
+						if(!home)
 						{
 							if(!sidedInventory.isItemValidForSlot(slotID, toInsert) || !sidedInventory.canInsertItem(slotID, toInsert, side.getOpposite()))
 							{
@@ -252,7 +267,7 @@ public class TransporterManager
 			
 			for(int i = 0; i <= inv.getSizeInventory() - 1; i++)
 			{
-				if(stack.pathType != Path.HOME)
+				if(!home)
 				{
 					if(!inv.isItemValidForSlot(i, toInsert))
 					{
@@ -317,7 +332,7 @@ public class TransporterManager
 			
 			for(int i = 0; i <= inv.getSlots() - 1; i++)
 			{
-				if(stack.pathType != Path.HOME)
+				if(!home)
 				{
 					ItemStack rejectStack = inv.insertItem(i, toInsert, true);
 					
@@ -401,9 +416,10 @@ public class TransporterManager
 	}
 
 	/**
-	 * @return TransitResponse of expected items to use
+	 * Checks a destination's strict input configuration against the color of the items being sent.
+	 * @return false if the side only accepts a different color
 	 */
-	public static TransitResponse getPredictedInsert(TileEntity tileEntity, EnumColor color, TransitRequest request, EnumFacing side)
+	public static boolean canInsertColor(TileEntity tileEntity, EnumColor color, EnumFacing side)
 	{
 		if(tileEntity instanceof ISideConfiguration)
 		{
@@ -413,10 +429,90 @@ public class TransporterManager
 
 			if(config.getEjector().hasStrictInput() && configColor != null && configColor != color)
 			{
-				return TransitResponse.EMPTY;
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * Tells the networks of the transporters around a destination that it changed in a way they don't get a neighbour
+	 * update for, such as its strict input colors.
+	 * @param tileEntity - destination that changed
+	 */
+	public static void onDestinationChanged(TileEntity tileEntity)
+	{
+		if(tileEntity.getWorld() == null || tileEntity.getWorld().isRemote)
+		{
+			return;
+		}
+
+		Coord4D coord = Coord4D.get(tileEntity);
+
+		for(EnumFacing side : EnumFacing.VALUES)
+		{
+			TileEntity tile = coord.offset(side).getTileEntity(tileEntity.getWorld());
+
+			if(tile instanceof TileEntityLogisticalTransporter && ((TileEntityLogisticalTransporter)tile).getTransmitter().hasTransmitterNetwork())
+			{
+				((TileEntityLogisticalTransporter)tile).getTransmitter().getTransmitterNetwork().onDestinationChanged(coord);
+			}
+		}
+	}
+
+	/**
+	 * Hashes what a destination holds as seen from the given side, to notice changes without copying its inventory.
+	 * @return hash of the item, damage and size of every slot
+	 */
+	public static long getInventoryHash(TileEntity tileEntity, EnumFacing side)
+	{
+		long hash = 1;
+
+		if(tileEntity instanceof IInventory)
+		{
+			IInventory inv = InventoryUtils.checkChestInv((IInventory)tileEntity);
+
+			for(int i = 0; i < inv.getSizeInventory(); i++)
+			{
+				hash = 31*hash + hashStack(inv.getStackInSlot(i));
+			}
+
+			if(tileEntity instanceof TileEntityBin)
+			{
+				hash = 31*hash + ((TileEntityBin)tileEntity).getItemCount();
 			}
 		}
+		else if(InventoryUtils.isItemHandler(tileEntity, side.getOpposite()))
+		{
+			IItemHandler handler = InventoryUtils.getItemHandler(tileEntity, side.getOpposite());
 
+			for(int i = 0; i < handler.getSlots(); i++)
+			{
+				hash = 31*hash + hashStack(handler.getStackInSlot(i));
+			}
+		}
+
+		return hash;
+	}
+
+	private static int hashStack(ItemStack stack)
+	{
+		if(stack.isEmpty())
+		{
+			return 0;
+		}
+
+		return (stack.getItem().hashCode()*31 + stack.getItemDamage())*31 + stack.getCount();
+	}
+
+	/**
+	 * Copies the inventory of a destination as seen from the given side, with every stack already in flight towards it
+	 * inserted, so it can be reused across several predictions.
+	 * @return predicted inventory, or null if nothing can be inserted from that side
+	 */
+	public static InventoryCopy getPredictedInventory(InventoryNetwork network, TileEntity tileEntity, EnumFacing side)
+	{
 		InventoryCopy copy = null;
 		
 		if(tileEntity instanceof IInventory)
@@ -430,16 +526,48 @@ public class TransporterManager
 
 		if(copy == null)
 		{
-			return TransitResponse.EMPTY;
+			return null;
 		}
 
-		List<TransporterStack> insertQueue = getStacksToDest(Coord4D.get(tileEntity));
+		Coord4D dest = Coord4D.get(tileEntity);
+		List<Reservation> reserved = network.reservations.get(dest);
 
-		for(TransporterStack tStack : insertQueue)
+		if(reserved != null)
 		{
-			testInsert(tileEntity, copy, side, tStack);
+			for(Iterator<Reservation> iter = reserved.iterator(); iter.hasNext();)
+			{
+				Reservation reservation = iter.next();
+
+				if(reservation.amount <= 0)
+				{
+					iter.remove();
+					continue;
+				}
+
+				//Replayed a stack at a time, as testInsert() doesn't split stacks larger than the item allows into empty slots
+				int maxSize = reservation.itemType.getMaxStackSize();
+
+				for(int remaining = reservation.amount; remaining > 0; remaining -= maxSize)
+				{
+					testInsert(tileEntity, copy, side, StackUtils.size(reservation.itemType, Math.min(remaining, maxSize)), reservation.color, reservation.home);
+				}
+			}
+
+			if(reserved.isEmpty())
+			{
+				network.reservations.remove(dest);
+			}
 		}
 
+		return copy;
+	}
+
+	/**
+	 * Predicts an insert against an inventory built by getPredictedInventory(). The copy is left untouched.
+	 * @return TransitResponse of expected items to use
+	 */
+	public static TransitResponse getPredictedInsert(TileEntity tileEntity, TransitRequest request, EnumFacing side, InventoryCopy copy)
+	{
 		for(Map.Entry<ItemStack, Integer> requestEntry : request.itemMap.entrySet())
 		{
 			ItemStack toInsert = requestEntry.getKey().copy();
@@ -649,6 +777,34 @@ public class TransporterManager
 		return TransitResponse.EMPTY;
 	}
 	
+	/**
+	 * Items in flight towards a destination of a network, summed per item type, color and path type.
+	 */
+	public static class Reservation
+	{
+		public ItemStack itemType;
+		public EnumColor color;
+		public boolean home;
+
+		public int amount;
+
+		public InventoryNetwork network;
+		public Coord4D dest;
+
+		public Reservation(InventoryNetwork net, TransporterStack stack)
+		{
+			network = net;
+			itemType = StackUtils.size(stack.itemStack, 1);
+			color = stack.color;
+			home = stack.pathType == Path.HOME;
+		}
+
+		public boolean matches(TransporterStack stack)
+		{
+			return home == (stack.pathType == Path.HOME) && color == stack.color && InventoryUtils.areItemsStackable(itemType, stack.itemStack);
+		}
+	}
+	
 	public static class InventoryCopy
 	{
 		public NonNullList<ItemStack> inventory;
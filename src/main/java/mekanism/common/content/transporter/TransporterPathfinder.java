@@ -1,13 +1,17 @@
 package mekanism.common.content.transporter;
 
+import it.unimi.dsi.fastutil.longs.Long2DoubleOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2LongOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.EnumSet;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
+import java.util.PriorityQueue;
 
 import mekanism.api.Coord4D;
 import mekanism.common.base.ILogisticalTransporter;
@@ -23,6 +27,8 @@ import mekanism.common.util.CapabilityUtils;
 import mekanism.common.util.InventoryUtils;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.EnumFacing;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.MathHelper;
 import net.minecraft.world.World;
 
 import org.apache.commons.lang3.tuple.Pair;
@@ -299,11 +305,11 @@ public final class TransporterPathfinder
 				return new Destination(test, false, response, 0).calculateScore(start.world());
 			}
 			
-			Pathfinder p = new Pathfinder(checker, start.world(), dest, start.coord(), stack);
+			Pathfinder p = new Pathfinder(checker, start.world(), dest, start.coord(), stack, start.getTransmitterNetwork());
 			
 			if(p.getPath().size() >= 2)
 			{
-				PathfinderCache.cachedPaths.put(new PathData(start.coord(), dest, p.side), p.getPath());
+				PathfinderCache.addCachedPath(new PathData(start.coord(), dest, p.side), p.getPath(), start.getTransmitterNetwork());
 				
 				return new Destination(p.getPath(), false, response, p.finalScore);
 			}
@@ -376,11 +382,13 @@ public final class TransporterPathfinder
 
 	public static class Pathfinder
 	{
-		public final Set<Coord4D> openSet, closedSet;
+		public final LongOpenHashSet closedSet = new LongOpenHashSet();
+
+		public final Long2LongOpenHashMap navMap = new Long2LongOpenHashMap();
 
-		public final HashMap<Coord4D, Coord4D> navMap;
+		public final Long2DoubleOpenHashMap gScore = new Long2DoubleOpenHashMap();
 
-		public final HashMap<Coord4D, Double> gScore, fScore;
+		private final PriorityQueue<OpenNode> openQueue = new PriorityQueue<>();
 
 		public final Coord4D start;
 
@@ -398,7 +406,17 @@ public final class TransporterPathfinder
 
 		private World worldObj;
 
+		private Long2ObjectMap<ILogisticalTransporter> transporters;
+
 		public Pathfinder(DestChecker checker, World world, Coord4D finishObj, Coord4D startObj, TransporterStack stack)
+		{
+			this(checker, world, finishObj, startObj, stack, null);
+		}
+
+		/**
+		 * @param network - network to take the transporter snapshot from, or null to look transporters up in the world
+		 */
+		public Pathfinder(DestChecker checker, World world, Coord4D finishObj, Coord4D startObj, TransporterStack stack, InventoryNetwork network)
 		{
 			destChecker = checker;
 			worldObj = world;
@@ -408,13 +426,9 @@ public final class TransporterPathfinder
 
 			transportStack = stack;
 
-			openSet = new HashSet<>();
-			closedSet = new HashSet<>();
-
-			navMap = new HashMap<>();
+			transporters = network != null ? network.getTransporterSnapshot() : null;
 
-			gScore = new HashMap<>();
-			fScore = new HashMap<>();
+			gScore.defaultReturnValue(Double.MAX_VALUE);
 
 			results = new ArrayList<>();
 
@@ -423,17 +437,20 @@ public final class TransporterPathfinder
 
 		public boolean find(Coord4D start)
 		{
-			openSet.add(start);
-			gScore.put(start, 0D);
-			fScore.put(start, gScore.get(start) + getEstimate(start, finalNode));
+			long startKey = start.getPos().toLong();
+			long finalKey = finalNode.getPos().toLong();
+
+			gScore.put(startKey, 0D);
+			openQueue.add(new OpenNode(startKey, 0, getEstimate(start.getPos())));
 
 			int blockCount = 0;
 
 			for(EnumFacing direction : EnumFacing.VALUES)
 			{
 				Coord4D neighbor = start.offset(direction);
+				ILogisticalTransporter transporter = getTransporter(neighbor.getPos());
 
-				if(!transportStack.canInsertToTransporter(neighbor.getTileEntity(worldObj), direction) && (!neighbor.equals(finalNode) || !destChecker.isValid(transportStack, direction, neighbor.getTileEntity(worldObj))))
+				if((transporter == null || !transportStack.canInsertToTransporter(transporter, direction.getOpposite())) && (!neighbor.equals(finalNode) || !destChecker.isValid(transportStack, direction, neighbor.getTileEntity(worldObj))))
 				{
 					blockCount++;
 				}
@@ -445,82 +462,54 @@ public final class TransporterPathfinder
 			}
 
 			double maxSearchDistance = start.distanceTo(finalNode) * 2;
-			ArrayList<EnumFacing> directionsToCheck = new ArrayList<>();
-			Coord4D[] neighbors = new Coord4D[EnumFacing.VALUES.length];
-			TileEntity[] neighborEntities = new TileEntity[neighbors.length];
 
-			while(!openSet.isEmpty())
+			while(!openQueue.isEmpty())
 			{
-				Coord4D currentNode = null;
-				double lowestFScore = 0;
+				OpenNode current = openQueue.poll();
 
-				for(Coord4D node : openSet)
+				if(current.gScore > gScore.get(current.key))
 				{
-					if(currentNode == null || fScore.get(node) < lowestFScore)
-					{
-						currentNode = node;
-						lowestFScore = fScore.get(node);
-					}
+					//A cheaper way to this node was queued after this entry
+					continue;
 				}
 
-				if(currentNode == null || start.distanceTo(currentNode) > maxSearchDistance)
+				BlockPos currentPos = BlockPos.fromLong(current.key);
+
+				if(getDistance(start.getPos(), currentPos) > maxSearchDistance)
 				{
 					break;
 				}
 
-				openSet.remove(currentNode);
-				closedSet.add(currentNode);
+				closedSet.add(current.key);
 
-				TileEntity currentNodeTile = currentNode.getTileEntity(worldObj);
-				ILogisticalTransporter currentNodeTransporter = null;
-				if(currentNodeTile.hasCapability(Capabilities.LOGISTICAL_TRANSPORTER_CAPABILITY, null))
-				{
-					currentNodeTransporter = 
-							CapabilityUtils.getCapability(currentNodeTile, Capabilities.LOGISTICAL_TRANSPORTER_CAPABILITY, null);
-				}
+				ILogisticalTransporter currentNodeTransporter = getTransporter(currentPos);
 
-				directionsToCheck.clear();
 				for(EnumFacing direction : EnumFacing.VALUES)
 				{
-					Coord4D neighbor = currentNode.offset(direction);
-					neighbors[direction.ordinal()] = neighbor;
-					TileEntity neighborEntity = neighbor.getTileEntity(worldObj);
-					neighborEntities[direction.ordinal()] = neighborEntity;
-					if(currentNodeTransporter == null || currentNodeTransporter.canEmitTo(neighborEntity, direction))
+					if(currentNodeTransporter != null && !currentNodeTransporter.canEmitTo(null, direction))
 					{
-						directionsToCheck.add(direction);
+						continue;
 					}
-				}
 
-				for(EnumFacing direction : directionsToCheck)
-				{
-					Coord4D neighbor = neighbors[direction.ordinal()];
+					BlockPos neighborPos = currentPos.offset(direction);
+					long neighborKey = neighborPos.toLong();
+					ILogisticalTransporter neighbor = getTransporter(neighborPos);
 
-					if(transportStack.canInsertToTransporter(neighborEntities[direction.ordinal()], direction))
+					if(neighbor != null && transportStack.canInsertToTransporter(neighbor, direction.getOpposite()))
 					{
-						TileEntity tile = neighborEntities[direction.ordinal()];
-						double tentativeG = gScore.get(currentNode) + CapabilityUtils.getCapability(tile, Capabilities.LOGISTICAL_TRANSPORTER_CAPABILITY, direction.getOpposite()).getCost();
+						double tentativeG = current.gScore + neighbor.getCost();
 
-						if(closedSet.contains(neighbor))
+						if(tentativeG < gScore.get(neighborKey))
 						{
-							if(tentativeG >= gScore.get(neighbor))
-							{
-								continue;
-							}
-						}
-
-						if(!openSet.contains(neighbor) || tentativeG < gScore.get(neighbor))
-						{
-							navMap.put(neighbor, currentNode);
-							gScore.put(neighbor, tentativeG);
-							fScore.put(neighbor, gScore.get(neighbor) + getEstimate(neighbor, finalNode));
-							openSet.add(neighbor);
+							navMap.put(neighborKey, current.key);
+							gScore.put(neighborKey, tentativeG);
+							openQueue.add(new OpenNode(neighborKey, tentativeG, tentativeG + getEstimate(neighborPos)));
 						}
 					}
-					else if(neighbor.equals(finalNode) && destChecker.isValid(transportStack, direction, neighborEntities[direction.ordinal()]))
+					else if(neighborKey == finalKey && destChecker.isValid(transportStack, direction, finalNode.getTileEntity(worldObj)))
 					{
 						side = direction;
-						results = reconstructPath(navMap, currentNode);
+						results = reconstructPath(current.key);
 						return true;
 					}
 				}
@@ -529,18 +518,41 @@ public final class TransporterPathfinder
 			return false;
 		}
 
-		private ArrayList<Coord4D> reconstructPath(HashMap<Coord4D, Coord4D> naviMap, Coord4D currentNode)
+		private ILogisticalTransporter getTransporter(BlockPos pos)
 		{
-			ArrayList<Coord4D> path = new ArrayList<>();
+			if(transporters != null)
+			{
+				return transporters.get(pos.toLong());
+			}
 
-			path.add(currentNode);
+			TileEntity tile = new Coord4D(pos, worldObj).getTileEntity(worldObj);
 
-			if(naviMap.containsKey(currentNode))
+			if(CapabilityUtils.hasCapability(tile, Capabilities.LOGISTICAL_TRANSPORTER_CAPABILITY, null))
 			{
-				path.addAll(reconstructPath(naviMap, naviMap.get(currentNode)));
+				return CapabilityUtils.getCapability(tile, Capabilities.LOGISTICAL_TRANSPORTER_CAPABILITY, null);
 			}
 
-			finalScore = gScore.get(currentNode) + currentNode.distanceTo(finalNode);
+			return null;
+		}
+
+		private ArrayList<Coord4D> reconstructPath(long currentNode)
+		{
+			ArrayList<Coord4D> path = new ArrayList<>();
+			long node = currentNode;
+
+			while(true)
+			{
+				path.add(new Coord4D(BlockPos.fromLong(node), worldObj));
+
+				if(!navMap.containsKey(node))
+				{
+					break;
+				}
+
+				node = navMap.get(node);
+			}
+
+			finalScore = gScore.get(currentNode) + getEstimate(BlockPos.fromLong(currentNode));
 
 			return path;
 		}
@@ -554,9 +566,40 @@ public final class TransporterPathfinder
 			return path;
 		}
 
-		private double getEstimate(Coord4D start, Coord4D target2)
+		private double getEstimate(BlockPos pos)
+		{
+			return getDistance(pos, finalNode.getPos());
+		}
+
+		private static int getDistance(BlockPos from, BlockPos to)
 		{
-			return start.distanceTo(target2);
+			int subX = from.getX() - to.getX();
+			int subY = from.getY() - to.getY();
+			int subZ = from.getZ() - to.getZ();
+
+			return (int)MathHelper.sqrt(subX * subX + subY * subY + subZ * subZ);
+		}
+
+		private static class OpenNode implements Comparable<OpenNode>
+		{
+			public final long key;
+
+			public final double gScore;
+
+			public final double fScore;
+
+			public OpenNode(long k, double g, double f)
+			{
+				key = k;
+				gScore = g;
+				fScore = f;
+			}
+
+			@Override
+			public int compareTo(OpenNode node)
+			{
+				return Double.compare(fScore, node.fScore);
+			}
 		}
 
 		public static class DestChecker
@@ -581,7 +624,7 @@ public final class TransporterPathfinder
 				}
 			};
 
-			Pathfinder p = new Pathfinder(checker, start.world(), stack.homeLocation, start.coord(), stack);
+			Pathfinder p = new Pathfinder(checker, start.world(), stack.homeLocation, start.coord(), stack, start.getTransmitterNetwork());
 			List<Coord4D> path = p.getPath();
 
 			if(path.size() >= 2)
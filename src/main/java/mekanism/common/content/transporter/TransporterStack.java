@@ -12,8 +12,10 @@ import mekanism.common.base.ILogisticalTransporter;
 import mekanism.common.base.TileNetworkList;
 import mekanism.common.capabilities.Capabilities;
 import mekanism.common.content.transporter.TransitRequest.TransitResponse;
+import mekanism.common.content.transporter.TransporterManager.Reservation;
 import mekanism.common.content.transporter.TransporterPathfinder.Destination;
 import mekanism.common.tile.TileEntityLogisticalSorter;
+import mekanism.common.transmitters.grid.InventoryNetwork;
 import mekanism.common.util.CapabilityUtils;
 import mekanism.common.util.InventoryUtils;
 import mekanism.common.util.TransporterUtils;
@@ -46,6 +48,10 @@ public class TransporterStack
 
 	public Path pathType;
 
+	/** Room reserved at the destination while this stack is on its way, released by TransporterManager.remove(). */
+	public Reservation reservation;
+	public int reservedAmount;
+
 	public void write(ILogisticalTransporter transporter, TileNetworkList data)
 	{
 		if(color != null)
@@ -164,7 +170,7 @@ public class TransporterStack
 		return stack;
 	}
 	
-	public void setPath(List<Coord4D> path, Path type)
+	public void setPath(List<Coord4D> path, Path type, InventoryNetwork network)
 	{
 		//Make sure old path isn't null
 		if(pathType != Path.NONE)
@@ -175,9 +181,9 @@ public class TransporterStack
 		pathToTarget = path;
 		pathType = type;
 		
-		if(pathType != Path.NONE)
+		if(pathType != Path.NONE && network != null)
 		{
-			TransporterManager.add(this);
+			TransporterManager.add(network, this);
 		}
 	}
 
@@ -201,7 +207,7 @@ public class TransporterStack
 		}
 
 		idleDir = null;
-		setPath(newPath.path, Path.DEST);
+		setPath(newPath.path, Path.DEST, transporter.getTransmitterNetwork());
 		initiatedPath = true;
 
 		return newPath.response;
@@ -217,7 +223,7 @@ public class TransporterStack
 		}
 
 		idleDir = null;
-		setPath(newPath.path, Path.DEST);
+		setPath(newPath.path, Path.DEST, transporter.getTransmitterNetwork());
 		initiatedPath = true;
 
 		return newPath.response;
@@ -237,7 +243,7 @@ public class TransporterStack
 			idleDir = null;
 		}
 		
-		setPath(newPath.getLeft(), newPath.getRight());
+		setPath(newPath.getLeft(), newPath.getRight(), transporter.getTransmitterNetwork());
 
 		originalLocation = transporter.coord();
 		initiatedPath = true;
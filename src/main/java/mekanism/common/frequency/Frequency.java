@@ -29,6 +29,9 @@ public class Frequency
 	
 	public Set<Coord4D> activeCoords = new HashSet<>();
 	
+	/** Incremented by the FrequencyManager whenever it changes activeCoords, so derived data can be cached. */
+	public int activeCoordsVersion;
+	
 	public Frequency(String n, UUID uuid)
 	{
 		name = n;
@@ -5,9 +5,11 @@ import io.netty.buffer.ByteBuf;
 import java.lang.reflect.Constructor;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 
@@ -32,6 +34,13 @@ public class FrequencyManager
 	
 	private Set<Frequency> frequencies = new HashSet<>();
 	
+	/** The frequencies again, keyed by themselves (name, owner and public), and by name. */
+	private Map<Frequency, Frequency> frequencyIndex = new HashMap<>();
+	private Map<String, List<Frequency>> nameIndex = new HashMap<>();
+	
+	/** The frequencies each coordinate is active in. */
+	private Map<Coord4D, Set<Frequency>> coordIndex = new HashMap<>();
+	
 	private FrequencyDataHandler dataHandler;
 	
 	private UUID ownerUUID;
@@ -67,15 +76,13 @@ public class FrequencyManager
 	
 	public Frequency update(Coord4D coord, Frequency freq)
 	{
-		for(Frequency iterFreq : frequencies)
+		Frequency found = frequencyIndex.get(freq);
+		
+		if(found != null)
 		{
-			if(freq.equals(iterFreq))
-			{
-				iterFreq.activeCoords.add(coord);
-				dataHandler.markDirty();
-				
-				return iterFreq;
-			}
+			activate(coord, found);
+			
+			return found;
 		}
 		
 		deactivate(coord);
@@ -85,60 +92,84 @@ public class FrequencyManager
 	
 	public void remove(String name, UUID owner)
 	{
-		for(Iterator<Frequency> iter = getFrequencies().iterator(); iter.hasNext();)
+		List<Frequency> named = nameIndex.get(name);
+		
+		if(named != null)
 		{
-			Frequency iterFreq = iter.next();
-			
-			if(iterFreq.name.equals(name) && iterFreq.ownerUUID.equals(owner))
+			for(Frequency iterFreq : named.toArray(new Frequency[0]))
 			{
-				iter.remove();
-				dataHandler.markDirty();
+				if(iterFreq.ownerUUID.equals(owner))
+				{
+					removeFrequency(iterFreq);
+				}
 			}
 		}
 	}
 	
 	public void remove(String name)
 	{
-		for(Iterator<Frequency> iter = getFrequencies().iterator(); iter.hasNext();)
+		List<Frequency> named = nameIndex.get(name);
+		
+		if(named != null)
 		{
-			Frequency iterFreq = iter.next();
-			
-			if(iterFreq.name.equals(name))
+			for(Frequency iterFreq : named.toArray(new Frequency[0]))
 			{
-				iter.remove();
-				dataHandler.markDirty();
+				removeFrequency(iterFreq);
 			}
 		}
 	}
 	
-	public void deactivate(Coord4D coord)
+	private void removeFrequency(Frequency freq)
 	{
-		for(Frequency freq : frequencies)
+		frequencies.remove(freq);
+		unindex(freq);
+		dataHandler.markDirty();
+	}
+	
+	/**
+	 * Marks a coordinate as active in a frequency of this manager.
+	 * @param coord - coordinate of the frequency handler
+	 * @param freq - frequency it uses
+	 */
+	public void activate(Coord4D coord, Frequency freq)
+	{
+		if(freq.activeCoords.add(coord))
 		{
-			freq.activeCoords.remove(coord);
-			dataHandler.markDirty();
+			freq.activeCoordsVersion++;
+			coordIndex.computeIfAbsent(coord, key -> new HashSet<>()).add(freq);
 		}
 	}
 	
-	public Frequency validateFrequency(UUID uuid, Coord4D coord, Frequency freq)
+	public void deactivate(Coord4D coord)
 	{
-		for(Frequency iterFreq : frequencies)
+		Set<Frequency> active = coordIndex.remove(coord);
+		
+		if(active != null)
 		{
-			if(freq.equals(iterFreq))
+			for(Frequency freq : active)
 			{
-				iterFreq.activeCoords.add(coord);
-				dataHandler.markDirty();
-				
-				return iterFreq;
+				freq.activeCoords.remove(coord);
+				freq.activeCoordsVersion++;
 			}
 		}
+	}
+	
+	public Frequency validateFrequency(UUID uuid, Coord4D coord, Frequency freq)
+	{
+		Frequency found = frequencyIndex.get(freq);
+		
+		if(found != null)
+		{
+			activate(coord, found);
+			
+			return found;
+		}
 		
 		if(uuid.equals(freq.ownerUUID))
 		{
-			freq.activeCoords.add(coord);
 			freq.valid = true;
-			frequencies.add(freq);
-			dataHandler.markDirty();
+			addFrequency(freq);
+			activate(coord, freq);
 			
 			return freq;
 		}
@@ -174,21 +205,112 @@ public class FrequencyManager
 	
 	public void addFrequency(Frequency freq)
 	{
-		frequencies.add(freq);
-		dataHandler.markDirty();
+		if(frequencies.add(freq))
+		{
+			index(freq);
+			dataHandler.markDirty();
+		}
+	}
+	
+	/**
+	 * Marks this manager's frequencies as needing to be saved. Activating a frequency doesn't do this, so it has to be
+	 * called whenever something changes what a frequency stores.
+	 */
+	public void markDirty()
+	{
+		if(dataHandler != null)
+		{
+			dataHandler.markDirty();
+		}
 	}
 	
 	public boolean containsFrequency(String name)
 	{
-		for(Frequency freq : frequencies)
+		return nameIndex.containsKey(name);
+	}
+	
+	/**
+	 * Gets the frequency with the given name, or one of them if several owners used it in this manager.
+	 * @param name - name of the frequency
+	 * @return a frequency with that name, or null if there is none
+	 */
+	public Frequency getFrequency(String name)
+	{
+		List<Frequency> named = nameIndex.get(name);
+		
+		return named != null ? named.get(0) : null;
+	}
+	
+	/**
+	 * Gets this manager's frequency with the same name, owner and visibility as the given one.
+	 * @param freq - frequency to look for
+	 * @return the matching frequency, or null if there is none
+	 */
+	public Frequency getFrequency(Frequency freq)
+	{
+		return frequencyIndex.get(freq);
+	}
+	
+	private void index(Frequency freq)
+	{
+		frequencyIndex.put(freq, freq);
+		nameIndex.computeIfAbsent(freq.name, key -> new ArrayList<>(1)).add(freq);
+		
+		for(Coord4D coord : freq.activeCoords)
+		{
+			coordIndex.computeIfAbsent(coord, key -> new HashSet<>()).add(freq);
+		}
+	}
+	
+	private void unindex(Frequency freq)
+	{
+		frequencyIndex.remove(freq);
+		
+		List<Frequency> named = nameIndex.get(freq.name);
+		
+		if(named != null)
 		{
-			if(freq.name.equals(name))
+			named.remove(freq);
+			
+			if(named.isEmpty())
 			{
-				return true;
+				nameIndex.remove(freq.name);
 			}
 		}
 		
-		return false;
+		for(Coord4D coord : freq.activeCoords)
+		{
+			unindexCoord(coord, freq);
+		}
+	}
+	
+	private void unindexCoord(Coord4D coord, Frequency freq)
+	{
+		freq.activeCoordsVersion++;
+		
+		Set<Frequency> active = coordIndex.get(coord);
+		
+		if(active != null)
+		{
+			active.remove(freq);
+			
+			if(active.isEmpty())
+			{
+				coordIndex.remove(coord);
+			}
+		}
+	}
+	
+	private void reindex()
+	{
+		frequencyIndex.clear();
+		nameIndex.clear();
+		coordIndex.clear();
+		
+		for(Frequency freq : frequencies)
+		{
+			index(freq);
+		}
 	}
 	
 	public static void tick(World world)
@@ -217,6 +339,7 @@ public class FrequencyManager
 					if(!coord.exists(world))
 					{
 						iter.remove();
+						unindexCoord(coord, iterFreq);
 					}
 					else {
 						TileEntity tile = coord.getTileEntity(world);
@@ -224,6 +347,7 @@ public class FrequencyManager
 						if(!(tile instanceof IFrequencyHandler))
 						{
 							iter.remove();
+							unindexCoord(coord, iterFreq);
 						}
 						else {
 							Frequency freq = ((IFrequencyHandler)tile).getFrequency(this);
@@ -231,6 +355,7 @@ public class FrequencyManager
 							if(freq == null || !freq.equals(iterFreq))
 							{
 								iter.remove();
+								unindexCoord(coord, iterFreq);
 							}
 						}
 					}
@@ -278,6 +403,7 @@ public class FrequencyManager
 		for(FrequencyManager manager : managers)
 		{
 			manager.frequencies.clear();
+			manager.reindex();
 			manager.dataHandler = null;
 		}
 		
@@ -307,6 +433,7 @@ public class FrequencyManager
 			{
 				manager.frequencies = loadedFrequencies;
 				manager.ownerUUID = loadedOwner;
+				manager.reindex();
 			}
 		}
 		
@@ -3,6 +3,7 @@ package mekanism.common.multiblock;
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.item.ItemStack;
 import net.minecraft.util.EnumHand;
+import net.minecraft.util.math.BlockPos;
 
 public interface IMultiblock<T extends SynchronizedData<T>>
 {
@@ -11,4 +12,10 @@ public interface IMultiblock<T extends SynchronizedData<T>>
 	boolean onActivate(EntityPlayer player, EnumHand hand, ItemStack stack);
 	
 	void doUpdate();
+	
+	/**
+	 * Same as doUpdate(), for a change at a known position; changes that can't affect the structure are skipped.
+	 * @param changed - position of the block that changed
+	 */
+	void doUpdate(BlockPos changed);
 }
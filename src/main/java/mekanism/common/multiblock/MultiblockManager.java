@@ -1,8 +1,12 @@
 package mekanism.common.multiblock;
 
-import java.util.ArrayList;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
@@ -21,6 +25,18 @@ public class MultiblockManager<T extends SynchronizedData<T>>
 	
 	/** A map containing references to all multiblock inventory caches. */
 	public Map<String, MultiblockCache<T>> inventories = new HashMap<>();
+
+	/** Per dimension, the ID of the cache each location was most recently added to. */
+	private Map<Integer, Map<Coord4D, String>> locationIndex = new HashMap<>();
+
+	/** Per dimension, the IDs of caches that may hold locations no longer belonging to them. */
+	private Map<Integer, Set<String>> dirtyCaches = new HashMap<>();
+
+	/** Caches waiting for the segment at a location to join a structure, or go away, before it can be checked. */
+	private Map<Coord4D, Set<String>> waitingCaches = new HashMap<>();
+
+	/** Per dimension, the segments that asked for their structure to be checked this tick. */
+	private Map<Integer, Set<TileEntityMultiblock<T>>> pendingUpdates = new HashMap<>();
 	
 	public MultiblockManager(String s)
 	{
@@ -47,6 +63,8 @@ public class MultiblockManager<T extends SynchronizedData<T>>
 				tileEntity.cachedData = tileEntity.getNewCache();
 				tileEntity.cachedID = null;
 			}
+
+			unindex(obj, id);
 		}
 		
 		inventories.remove(id);
@@ -71,50 +89,147 @@ public class MultiblockManager<T extends SynchronizedData<T>>
 		}
 	}
 
+	/**
+	 * Checks the caches that were marked dirty in this world, dropping the locations that no longer belong to them.
+	 * @param world - world that ticked
+	 */
 	public void tickSelf(World world)
 	{
-		ArrayList<String> idsToKill = new ArrayList<>();
-		HashMap<String, HashSet<Coord4D>> tilesToKill = new HashMap<>();
+		int dimension = world.provider.getDimension();
+
+		runUpdates(world, dimension);
 
-		for(Map.Entry<String, MultiblockCache<T>> entry : inventories.entrySet())
+		Set<String> dirty = dirtyCaches.remove(dimension);
+
+		if(dirty == null)
 		{
-			String inventoryID = entry.getKey();
+			return;
+		}
 
-			for(Coord4D obj : entry.getValue().locations)
+		for(String inventoryID : dirty)
+		{
+			MultiblockCache<T> cache = inventories.get(inventoryID);
+
+			if(cache == null)
+			{
+				continue;
+			}
+
+			for(Iterator<Coord4D> iter = cache.locations.iterator(); iter.hasNext();)
 			{
-				if(obj.dimensionId == world.provider.getDimension() && obj.exists(world))
+				Coord4D obj = iter.next();
+
+				if(obj.dimensionId == dimension && obj.exists(world))
 				{
 					TileEntity tileEntity = obj.getTileEntity(world);
 
 					if(!(tileEntity instanceof TileEntityMultiblock) || ((TileEntityMultiblock)tileEntity).getManager() != this || (getStructureId(((TileEntityMultiblock<?>)tileEntity)) != null && !Objects.equals(getStructureId(((TileEntityMultiblock) tileEntity)), inventoryID)))
 					{
-						if(!tilesToKill.containsKey(inventoryID))
-						{
-							tilesToKill.put(inventoryID, new HashSet<>());
-						}
-
-						tilesToKill.get(inventoryID).add(obj);
+						iter.remove();
+						unindex(obj, inventoryID);
+					}
+					else if(getStructureId((TileEntityMultiblock<?>)tileEntity) == null && !inventoryID.equals(((TileEntityMultiblock)tileEntity).cachedID))
+					{
+						//Still waiting to find out which structure this segment ends up in; checked again once it does
+						waitingCaches.computeIfAbsent(obj, coord -> new HashSet<>()).add(inventoryID);
 					}
 				}
 			}
 
-			if(entry.getValue().locations.isEmpty())
+			if(cache.locations.isEmpty())
+			{
+				inventories.remove(inventoryID);
+			}
+		}
+	}
+
+	/**
+	 * Queues a check of the structure the segment is part of, or could form, for the end of the tick.
+	 * @param tile - segment that changed or noticed a change
+	 */
+	public void queueUpdate(TileEntityMultiblock<T> tile)
+	{
+		pendingUpdates.computeIfAbsent(tile.getWorld().provider.getDimension(), dim -> new LinkedHashSet<>()).add(tile);
+	}
+
+	/**
+	 * Runs the queued checks. Formed structures are only scanned once, and a scan that doesn't find a structure covers
+	 * every segment it reached, as scanning from any of them would give the same result.
+	 */
+	private void runUpdates(World world, int dimension)
+	{
+		Set<TileEntityMultiblock<T>> pending = pendingUpdates.remove(dimension);
+
+		if(pending == null)
+		{
+			return;
+		}
+
+		LongSet scanned = new LongOpenHashSet();
+
+		for(TileEntityMultiblock<T> tile : pending)
+		{
+			if(tile.isInvalid() || tile.getWorld() != world || (tile.structure == null && scanned.contains(tile.getPos().toLong())))
 			{
-				idsToKill.add(inventoryID);
+				continue;
 			}
+
+			UpdateProtocol<T> protocol = tile.runUpdate();
+
+			if(protocol != null && tile.structure == null)
+			{
+				scanned.addAll(protocol.iteratedNodes);
+			}
+		}
+	}
+
+	/**
+	 * Marks the cache that last claimed a location to be checked at the end of the tick, for when the multiblock
+	 * segment at that location is removed.
+	 * @param location - location of the segment
+	 */
+	public void markDirty(Coord4D location)
+	{
+		Map<Coord4D, String> index = locationIndex.get(location.dimensionId);
+		String id = index != null ? index.get(location) : null;
+
+		if(id != null)
+		{
+			markDirty(location.dimensionId, id);
 		}
 
-		for(Map.Entry<String, HashSet<Coord4D>> entry : tilesToKill.entrySet())
+		markWaitingDirty(location);
+	}
+
+	/**
+	 * Marks the caches that were waiting on the segment at a location, now that it joined a structure or went away.
+	 * @param location - location of the segment
+	 */
+	private void markWaitingDirty(Coord4D location)
+	{
+		Set<String> waiting = waitingCaches.remove(location);
+
+		if(waiting != null)
 		{
-			for(Coord4D obj : entry.getValue())
+			for(String inventoryID : waiting)
 			{
-				inventories.get(entry.getKey()).locations.remove(obj);
+				markDirty(location.dimensionId, inventoryID);
 			}
 		}
+	}
+
+	private void markDirty(int dimension, String inventoryID)
+	{
+		dirtyCaches.computeIfAbsent(dimension, dim -> new HashSet<>()).add(inventoryID);
+	}
 
-		for(String inventoryID : idsToKill)
+	private void unindex(Coord4D location, String inventoryID)
+	{
+		Map<Coord4D, String> index = locationIndex.get(location.dimensionId);
+
+		if(index != null && inventoryID.equals(index.get(location)))
 		{
-			inventories.remove(inventoryID);
+			index.remove(location);
 		}
 	}
 	
@@ -135,15 +250,67 @@ public class MultiblockManager<T extends SynchronizedData<T>>
 	
 	public void updateCache(TileEntityMultiblock<T> tile)
 	{
-		if(!inventories.containsKey(tile.cachedID))
+		Coord4D coord = Coord4D.get(tile);
+		MultiblockCache<T> cache = inventories.get(tile.cachedID);
+
+		if(cache == null)
 		{
-			tile.cachedData.locations.add(Coord4D.get(tile));
-			inventories.put(tile.cachedID, tile.cachedData);
+			cache = tile.cachedData;
+			inventories.put(tile.cachedID, cache);
 
-			return;
+			//Locations carried over with the cache haven't been checked against the world yet
+			for(Coord4D obj : cache.locations)
+			{
+				index(obj, tile.cachedID);
+			}
+
+			markDirty(coord.dimensionId, tile.cachedID);
+		}
+
+		if(cache.locations.add(coord))
+		{
+			//The segment joined another cache, so whatever was waiting on it can be resolved
+			index(coord, tile.cachedID);
+			markWaitingDirty(coord);
 		}
+	}
+
+	/**
+	 * Keeps the cache of a formed structure up to date. This is done every tick by a single segment of the structure,
+	 * while the others only sync their own cache when they join the structure or are saved.
+	 * @param tile - segment ticking for the structure
+	 */
+	public void syncCache(TileEntityMultiblock<T> tile)
+	{
+		T data = tile.getSynchronizedData();
+		MultiblockCache<T> cache = inventories.get(data.inventoryID);
 
-		inventories.get(tile.cachedID).locations.add(Coord4D.get(tile));
+		if(cache == null)
+		{
+			//The cache was dropped, so add it back with all of the structure's locations
+			updateCache(tile);
+			cache = inventories.get(data.inventoryID);
+
+			for(Coord4D obj : data.locations)
+			{
+				if(cache.locations.add(obj))
+				{
+					index(obj, data.inventoryID);
+				}
+			}
+		}
+
+		cache.sync(data);
+	}
+
+	private void index(Coord4D location, String inventoryID)
+	{
+		String prevID = locationIndex.computeIfAbsent(location.dimensionId, dim -> new HashMap<>()).put(location, inventoryID);
+
+		if(prevID != null && !prevID.equals(inventoryID))
+		{
+			markDirty(location.dimensionId, prevID);
+		}
 	}
 	
 	public static void reset()
@@ -151,6 +318,10 @@ public class MultiblockManager<T extends SynchronizedData<T>>
 		for(MultiblockManager<?> manager : managers)
 		{
 			manager.inventories.clear();
+			manager.locationIndex.clear();
+			manager.dirtyCaches.clear();
+			manager.waitingCaches.clear();
+			manager.pendingUpdates.clear();
 		}
 	}
 }
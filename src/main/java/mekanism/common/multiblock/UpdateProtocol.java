@@ -1,5 +1,9 @@
 package mekanism.common.multiblock;
 
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+
 import java.util.ArrayList;
 import java.util.Deque;
 import java.util.HashSet;
@@ -17,14 +21,17 @@ import net.minecraft.world.World;
 
 public abstract class UpdateProtocol<T extends SynchronizedData<T>>
 {
-	/** The multiblock nodes that have already been iterated over. */
-	public Set<Coord4D> iteratedNodes = new HashSet<>();
+	/** The multiblock nodes that have already been iterated over, as BlockPos.toLong() keys. */
+	public LongSet iteratedNodes = new LongOpenHashSet();
 	
 	public Set<Coord4D> innerNodes = new HashSet<>();
 
 	/** The structures found, all connected by some nodes to the pointer. */
 	public T structureFound = null;
 
+	/** The locations of the structure found, as BlockPos.toLong() keys. */
+	private LongSet locationKeys;
+
 	/** The original block the calculation is getting run from. */
 	public TileEntityMultiblock<T> pointer;
 
@@ -47,7 +54,8 @@ public abstract class UpdateProtocol<T extends SynchronizedData<T>>
 		boolean rightBlocks = true;
 		boolean rightFrame = true;
 
-		Set<Coord4D> locations = new HashSet<>();
+		Set<Coord4D> locations = null;
+		LongSet keys = null;
 
 		int xmin = 0, xmax = 0, ymin = 0, ymax = 0, zmin = 0, zmax = 0;
 
@@ -62,6 +70,9 @@ public abstract class UpdateProtocol<T extends SynchronizedData<T>>
 
 		if(isCorner)
 		{
+			locations = new HashSet<>();
+			keys = new LongOpenHashSet();
+
 			if(isViableNode(origX+1, origY, origZ))
 			{
 				xmin = 0;
@@ -147,7 +158,10 @@ public abstract class UpdateProtocol<T extends SynchronizedData<T>>
 								break;
 							}
 							else {
-								locations.add(coord.translate(x, y, z));
+								Coord4D location = coord.translate(x, y, z);
+
+								locations.add(location);
+								keys.add(location.getPos().toLong());
 							}
 						}
 						else {
@@ -201,6 +215,7 @@ public abstract class UpdateProtocol<T extends SynchronizedData<T>>
 						if(canForm(structure))
 						{
 							structureFound = structure;
+							locationKeys = keys;
 							return;
 						}
 					}
@@ -209,7 +224,7 @@ public abstract class UpdateProtocol<T extends SynchronizedData<T>>
 		}
 
 		innerNodes.clear();
-		iteratedNodes.add(coord);
+		iteratedNodes.add(coord.getPos().toLong());
 		
 		if(iteratedNodes.size() > 2048)
 		{
@@ -222,7 +237,7 @@ public abstract class UpdateProtocol<T extends SynchronizedData<T>>
 			
 			if(isViableNode(sideCoord.getPos()))
 			{
-				if(!iteratedNodes.contains(sideCoord))
+				if(!iteratedNodes.contains(sideCoord.getPos().toLong()))
 				{
 					queue.addLast(sideCoord);
 				}
@@ -336,6 +351,43 @@ public abstract class UpdateProtocol<T extends SynchronizedData<T>>
 		return false;
 	}
 
+	/**
+	 * Checks whether a block change can't have affected a structure that was already formed, so it doesn't need to be
+	 * scanned again. Only changes outside the structure or on its shell are checked here; a change inside it can alter
+	 * what the structure is made of, so it always needs a full scan.
+	 * @param structure - structure formed before the change
+	 * @param pos - position that changed
+	 * @return Whether or not the structure is still valid as it is.
+	 */
+	public boolean isUnaffected(T structure, BlockPos pos)
+	{
+		Coord4D min = structure.minLocation;
+		Coord4D max = structure.maxLocation;
+
+		if(min == null || max == null)
+		{
+			return false;
+		}
+
+		if(pos.getX() < min.x || pos.getX() > max.x || pos.getY() < min.y || pos.getY() > max.y || pos.getZ() < min.z || pos.getZ() > max.z)
+		{
+			//A new node next to the structure would be part of it, which makes it invalid
+			return !isViableNode(pos);
+		}
+
+		if(pos.getX() != min.x && pos.getX() != max.x && pos.getY() != min.y && pos.getY() != max.y && pos.getZ() != min.z && pos.getZ() != max.z)
+		{
+			return false;
+		}
+
+		if(!isViableNode(pos))
+		{
+			return false;
+		}
+
+		return !isFrame(new Coord4D(pos, pointer.getWorld()), min.x, max.x, min.y, max.y, min.z, max.z) || isValidFrame(pos.getX(), pos.getY(), pos.getZ());
+	}
+
 	/**
 	 *
 	 * @param obj - location to check
@@ -460,20 +512,20 @@ public abstract class UpdateProtocol<T extends SynchronizedData<T>>
 		pathingQueue.add(Coord4D.get(pointer));
 		while (pathingQueue.peek() != null) {
 			Coord4D next = pathingQueue.removeFirst();
-			if (!iteratedNodes.contains(next)) {
+			if (!iteratedNodes.contains(next.getPos().toLong())) {
 				loopThrough(next, pathingQueue);
 			}
 		}
 		
 		if(structureFound != null)
 		{
-			for(Coord4D coord : iteratedNodes)
+			for(LongIterator iter = iteratedNodes.iterator(); iter.hasNext();)
 			{
-				if(!structureFound.locations.contains(coord))
+				if(!locationKeys.contains(iter.nextLong()))
 				{
-					for(Coord4D newCoord : iteratedNodes)
+					for(LongIterator newIter = iteratedNodes.iterator(); newIter.hasNext();)
 					{
-						TileEntity tile = newCoord.getTileEntity(pointer.getWorld());
+						TileEntity tile = new Coord4D(BlockPos.fromLong(newIter.nextLong()), pointer.getWorld()).getTileEntity(pointer.getWorld());
 						
 						if(tile instanceof TileEntityMultiblock)
 						{
@@ -571,9 +623,9 @@ public abstract class UpdateProtocol<T extends SynchronizedData<T>>
 			}
 		}
 		else {
-			for(Coord4D coord : iteratedNodes)
+			for(LongIterator iter = iteratedNodes.iterator(); iter.hasNext();)
 			{
-				TileEntity tile = coord.getTileEntity(pointer.getWorld());
+				TileEntity tile = new Coord4D(BlockPos.fromLong(iter.nextLong()), pointer.getWorld()).getTileEntity(pointer.getWorld());
 				
 				if(tile instanceof TileEntityMultiblock)
 				{
@@ -14,6 +14,7 @@ import mekanism.common.capabilities.Capabilities;
 import mekanism.common.network.PacketDataRequest.DataRequestMessage;
 import mekanism.common.network.PacketTileEntity.TileEntityMessage;
 import mekanism.common.tile.TileEntityMultiblock;
+import mekanism.common.tile.prefab.TileEntityBasicBlock;
 import mekanism.common.util.CapabilityUtils;
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.entity.player.EntityPlayerMP;
@@ -43,6 +44,11 @@ public class PacketDataRequest implements IMessageHandler<DataRequestMessage, IM
                     ((TileEntityMultiblock<?>)tileEntity).sendStructure = true;
                 }
 
+                if(tileEntity instanceof TileEntityBasicBlock)
+                {
+                    ((TileEntityBasicBlock)tileEntity).resetSync(player);
+                }
+
                 if(CapabilityUtils.hasCapability(tileEntity, Capabilities.GRID_TRANSMITTER_CAPABILITY, null))
                 {
                     IGridTransmitter transmitter = CapabilityUtils.getCapability(tileEntity, Capabilities.GRID_TRANSMITTER_CAPABILITY, null);
@@ -208,7 +208,7 @@ public class PacketEditFilter implements IMessageHandler<EditFilterMessage, IMes
 				}
 			}
 	
-			PacketHandler.encode(data.toArray(), dataStream);
+			PacketHandler.encode(data, dataStream);
 		}
 	
 		@Override
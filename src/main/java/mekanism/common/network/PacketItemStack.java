@@ -77,7 +77,7 @@ public class PacketItemStack implements IMessageHandler<ItemStackMessage, IMessa
 				PacketHandler.log("Sending ItemStack packet");
 			}
 			
-			PacketHandler.encode(parameters.toArray(), dataStream);
+			PacketHandler.encode(parameters, dataStream);
 		}
 	
 		@Override
@@ -131,7 +131,7 @@ public class PacketNewFilter implements IMessageHandler<NewFilterMessage, IMessa
 				oFilter.write(data);
 			}
 	
-			PacketHandler.encode(data.toArray(), dataStream);
+			PacketHandler.encode(data, dataStream);
 		}
 	
 		@Override
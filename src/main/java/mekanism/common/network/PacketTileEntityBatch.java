@@ -0,0 +1,106 @@
+package mekanism.common.network;
+
+import io.netty.buffer.ByteBuf;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import mekanism.api.Coord4D;
+import mekanism.common.PacketHandler;
+import mekanism.common.base.ITileNetwork;
+import mekanism.common.capabilities.Capabilities;
+import mekanism.common.network.PacketTileEntityBatch.TileEntityBatchMessage;
+import mekanism.common.util.CapabilityUtils;
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraftforge.fml.common.network.simpleimpl.IMessage;
+import net.minecraftforge.fml.common.network.simpleimpl.IMessageHandler;
+import net.minecraftforge.fml.common.network.simpleimpl.MessageContext;
+
+/**
+ * Several TileEntity packets sent as one, handled in the order they were added.
+ */
+public class PacketTileEntityBatch implements IMessageHandler<TileEntityBatchMessage, IMessage>
+{
+	@Override
+	public IMessage onMessage(TileEntityBatchMessage message, MessageContext context)
+	{
+		EntityPlayer player = PacketHandler.getPlayer(context);
+
+		if(player == null)
+		{
+			return null;
+		}
+
+		PacketHandler.handlePacket(() ->
+		{
+			for(int i = 0; i < message.coords.size(); i++)
+			{
+				TileEntity tileEntity = message.coords.get(i).getTileEntity(player.world);
+				ByteBuf storedBuffer = message.storedBuffers.get(i);
+
+				if(CapabilityUtils.hasCapability(tileEntity, Capabilities.TILE_NETWORK_CAPABILITY, null))
+				{
+					ITileNetwork network = CapabilityUtils.getCapability(tileEntity, Capabilities.TILE_NETWORK_CAPABILITY, null);
+
+					try {
+						network.handlePacketData(storedBuffer);
+					} catch(Exception e) {
+						e.printStackTrace();
+					}
+				}
+
+				storedBuffer.release();
+			}
+		}, player);
+
+		return null;
+	}
+
+	public static class TileEntityBatchMessage implements IMessage
+	{
+		public List<Coord4D> coords = new ArrayList<>();
+
+		/** Already encoded data for the tile at the same index, only ever read from so it can be shared. */
+		public List<ByteBuf> encodedData = new ArrayList<>();
+
+		public List<ByteBuf> storedBuffers = new ArrayList<>();
+
+		public TileEntityBatchMessage() {}
+
+		public void add(Coord4D coord, ByteBuf encoded)
+		{
+			coords.add(coord);
+			encodedData.add(encoded);
+		}
+
+		@Override
+		public void toBytes(ByteBuf dataStream)
+		{
+			PacketHandler.log("Sending batch of " + coords.size() + " TileEntity packets");
+
+			dataStream.writeInt(coords.size());
+
+			for(int i = 0; i < coords.size(); i++)
+			{
+				ByteBuf data = encodedData.get(i);
+
+				coords.get(i).write(dataStream);
+				dataStream.writeInt(data.readableBytes());
+				dataStream.writeBytes(data, data.readerIndex(), data.readableBytes());
+			}
+		}
+
+		@Override
+		public void fromBytes(ByteBuf dataStream)
+		{
+			int amount = dataStream.readInt();
+
+			for(int i = 0; i < amount; i++)
+			{
+				coords.add(Coord4D.read(dataStream));
+				storedBuffers.add(dataStream.readBytes(dataStream.readInt()));
+			}
+		}
+	}
+}
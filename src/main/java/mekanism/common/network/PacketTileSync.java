@@ -0,0 +1,89 @@
+package mekanism.common.network;
+
+import io.netty.buffer.ByteBuf;
+import mekanism.api.Coord4D;
+import mekanism.common.PacketHandler;
+import mekanism.common.network.PacketTileSync.TileSyncMessage;
+import mekanism.common.tile.prefab.TileEntityBasicBlock;
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraftforge.fml.common.network.simpleimpl.IMessage;
+import net.minecraftforge.fml.common.network.simpleimpl.IMessageHandler;
+import net.minecraftforge.fml.common.network.simpleimpl.MessageContext;
+
+/**
+ * The data a block keeps synced with the players using it. Either all of it, which the client keeps, or only the
+ * fields that changed since the last time, which are applied to what the client kept.
+ */
+public class PacketTileSync implements IMessageHandler<TileSyncMessage, IMessage>
+{
+	@Override
+	public IMessage onMessage(TileSyncMessage message, MessageContext context)
+	{
+		EntityPlayer player = PacketHandler.getPlayer(context);
+
+		if(player == null)
+		{
+			return null;
+		}
+
+		PacketHandler.handlePacket(() ->
+		{
+			TileEntity tileEntity = message.coord4D.getTileEntity(player.world);
+
+			if(tileEntity instanceof TileEntityBasicBlock)
+			{
+				try {
+					((TileEntityBasicBlock)tileEntity).handleSyncData(message.storedBuffer, message.delta);
+				} catch(Exception e) {
+					e.printStackTrace();
+				}
+			}
+
+			message.storedBuffer.release();
+		}, player);
+
+		return null;
+	}
+
+	public static class TileSyncMessage implements IMessage
+	{
+		public Coord4D coord4D;
+
+		public boolean delta;
+
+		/** Already encoded data, which may be shared by several messages. Each message holds a reference until it's written. */
+		public ByteBuf encodedData;
+
+		public ByteBuf storedBuffer;
+
+		public TileSyncMessage() {}
+
+		public TileSyncMessage(Coord4D coord, ByteBuf encoded, boolean isDelta)
+		{
+			coord4D = coord;
+			encodedData = encoded.retain();
+			delta = isDelta;
+		}
+
+		@Override
+		public void toBytes(ByteBuf dataStream)
+		{
+			PacketHandler.log("Sending " + (delta ? "changed" : "all") + " sync data for " + coord4D);
+
+			coord4D.write(dataStream);
+			dataStream.writeBoolean(delta);
+			dataStream.writeBytes(encodedData, encodedData.readerIndex(), encodedData.readableBytes());
+
+			encodedData.release();
+		}
+
+		@Override
+		public void fromBytes(ByteBuf dataStream)
+		{
+			coord4D = Coord4D.read(dataStream);
+			delta = dataStream.readBoolean();
+			storedBuffer = dataStream.copy();
+		}
+	}
+}
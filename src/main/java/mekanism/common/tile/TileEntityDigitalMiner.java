@@ -3,12 +3,9 @@ package mekanism.common.tile;
 import io.netty.buffer.ByteBuf;
 
 import java.util.ArrayList;
-import java.util.BitSet;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
-import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -31,6 +28,7 @@ import mekanism.common.config.MekanismConfig.usage;
 import mekanism.common.content.miner.MItemStackFilter;
 import mekanism.common.content.miner.MOreDictFilter;
 import mekanism.common.content.miner.MinerFilter;
+import mekanism.common.content.miner.MinerQueue;
 import mekanism.common.content.miner.ThreadMinerSearch;
 import mekanism.common.content.miner.ThreadMinerSearch.State;
 import mekanism.common.content.transporter.InvStack;
@@ -78,8 +76,7 @@ public class TileEntityDigitalMiner extends TileEntityElectricBlock implements I
 {
 	public static int[] EJECT_INV;
 
-	public Map<Chunk3D, BitSet> oresToMine = new HashMap<>();
-	public Map<Integer, MinerFilter> replaceMap = new HashMap<>();
+	public MinerQueue toMine = new MinerQueue();
 
 	public HashList<MinerFilter> filters = new HashList<>();
 
@@ -175,9 +172,10 @@ public class TileEntityDigitalMiner extends TileEntityElectricBlock implements I
 				initCalc = true;
 			}
 
+			searcher.update();
 			ChargeUtils.discharge(27, this);
 
-			if(MekanismUtils.canFunction(this) && running && getEnergy() >= getPerTick() && searcher.state == State.FINISHED && oresToMine.size() > 0)
+			if(MekanismUtils.canFunction(this) && running && getEnergy() >= getPerTick() && searcher.state == State.FINISHED && !toMine.isEmpty())
 			{
 				setActive(true);
 
@@ -190,103 +188,40 @@ public class TileEntityDigitalMiner extends TileEntityElectricBlock implements I
 
 				if(delay == 0)
 				{
-					boolean did = false;
-					
-					for(Iterator<Chunk3D> it = oresToMine.keySet().iterator(); it.hasNext();)
+					while(!toMine.isEmpty())
 					{
-						Chunk3D chunk = it.next();
-						BitSet set = oresToMine.get(chunk);
-						int next = 0;
-	
-						while(!did)
+						Coord4D coord = getCoordFromIndex(toMine.peekIndex());
+
+						if(!coord.exists(world))
 						{
-							int index = set.nextSetBit(next);
-							Coord4D coord = getCoordFromIndex(index);
-	
-							if(index == -1)
-							{
-								it.remove();
-								break;
-							}
-	
-							if(!coord.exists(world))
-							{
-								set.clear(index);
-								
-								if(set.cardinality() == 0)
-								{
-									it.remove();
-									break;
-								}
-								
-								next = index + 1;
-								continue;
-							}
-
-							IBlockState state = coord.getBlockState(world);
-							Block block = state.getBlock();
-							int meta = block.getMetaFromState(state);
-	
-							if(block == null || coord.isAirBlock(world))
-							{
-								set.clear(index);
-								
-								if(set.cardinality() == 0)
-								{
-									it.remove();
-									break;
-								}
-								
-								next = index + 1;
-								continue;
-							}
-	
-							boolean hasFilter = false;
-							ItemStack is = new ItemStack(block, 1, meta);
-	
-							for(MinerFilter filter : filters)
-							{
-								if(filter.canFilter(is))
-								{
-									hasFilter = true;
-									break;
-								}
-							}
-	
-							if(inverse == hasFilter || !canMine(coord))
-							{
-								set.clear(index);
-								
-								if(set.cardinality() == 0)
-								{
-									it.remove();
-									break;
-								}
-								
-								next = index + 1;
-								continue;
-							}
-	
-							List<ItemStack> drops = MinerUtils.getDrops(world, coord, silkTouch);
-	
-							if(canInsert(drops) && setReplace(coord, index))
-							{
-								did = true;
-								add(drops);
-								set.clear(index);
-								
-								if(set.cardinality() == 0)
-								{
-									it.remove();
-								}
-	
-								world.playEvent(null, 2001, coord.getPos(), Block.getStateId(state));
-	
-								missingStack = ItemStack.EMPTY;
-							}
-	
-							break;
+							toMine.pop();
+							continue;
+						}
+
+						IBlockState state = coord.getBlockState(world);
+
+						if(coord.isAirBlock(world) || !toMine.acceptedStates.get(Block.getStateId(state)) || !canMine(coord))
+						{
+							toMine.pop();
+							continue;
+						}
+
+						List<ItemStack> drops = MinerUtils.getDrops(world, coord, silkTouch);
+
+						if(canInsert(drops) && setReplace(coord, toMine.peekFilter()))
+						{
+							toMine.pop();
+							add(drops);
+
+							world.playEvent(null, 2001, coord.getPos(), Block.getStateId(state));
+
+							missingStack = ItemStack.EMPTY;
+						}
+						else {
+							toMine.requeue();
 						}
+
+						break;
 					}
 					
 					delay = getDelay();
@@ -366,9 +301,9 @@ public class TileEntityDigitalMiner extends TileEntityElectricBlock implements I
 	/*
 	 * returns false if unsuccessful
 	 */
-	public boolean setReplace(Coord4D obj, int index)
+	public boolean setReplace(Coord4D obj, MinerFilter filter)
 	{
-		ItemStack stack = getReplace(index);
+		ItemStack stack = getReplace(filter);
 
 		if(!stack.isEmpty())
 		{
@@ -384,8 +319,6 @@ public class TileEntityDigitalMiner extends TileEntityElectricBlock implements I
 			return true;
 		}
 		else {
-			MinerFilter filter = replaceMap.get(index);
-
 			if(filter == null || (filter.replaceStack.isEmpty() || !filter.requireStack))
 			{
 				world.setBlockToAir(obj.getPos());
@@ -409,10 +342,8 @@ public class TileEntityDigitalMiner extends TileEntityElectricBlock implements I
 		return !event.isCanceled();
 	}
 
-	public ItemStack getReplace(int index)
+	public ItemStack getReplace(MinerFilter filter)
 	{
-		MinerFilter filter = replaceMap.get(index);
-		
 		if(filter == null || filter.replaceStack.isEmpty())
 		{
 			return ItemStack.EMPTY;
@@ -588,7 +519,7 @@ public class TileEntityDigitalMiner extends TileEntityElectricBlock implements I
 	{
 		if(searcher.state == State.SEARCHING)
 		{
-			searcher.interrupt();
+			searcher.cancel();
 			reset();
 
 			return;
@@ -603,10 +534,10 @@ public class TileEntityDigitalMiner extends TileEntityElectricBlock implements I
 
 	public void reset()
 	{
+		searcher.cancel();
 		searcher = new ThreadMinerSearch(this);
 		running = false;
-		oresToMine.clear();
-		replaceMap.clear();
+		toMine.clear();
 		missingStack = ItemStack.EMPTY;
 		setActive(false);
 
@@ -628,14 +559,7 @@ public class TileEntityDigitalMiner extends TileEntityElectricBlock implements I
 	
 	public int getSize()
 	{
-		int size = 0;
-		
-		for(Chunk3D chunk : oresToMine.keySet())
-		{
-			size += oresToMine.get(chunk).cardinality();
-		}
-		
-		return size;
+		return toMine.size();
 	}
 
 	@Override
@@ -814,6 +738,12 @@ public class TileEntityDigitalMiner extends TileEntityElectricBlock implements I
 				numPowering = dataStream.readInt();
 				searcher.state = State.values()[dataStream.readInt()];
 				clientToMine = dataStream.readInt();
+				
+				if(searcher.state == State.SEARCHING)
+				{
+					searcher.progress = dataStream.readInt();
+				}
+				
 				controlType = RedstoneControl.values()[dataStream.readInt()];
 				inverse = dataStream.readBoolean();
 				
@@ -847,6 +777,12 @@ public class TileEntityDigitalMiner extends TileEntityElectricBlock implements I
 				numPowering = dataStream.readInt();
 				searcher.state = State.values()[dataStream.readInt()];
 				clientToMine = dataStream.readInt();
+				
+				if(searcher.state == State.SEARCHING)
+				{
+					searcher.progress = dataStream.readInt();
+				}
+				
 				controlType = RedstoneControl.values()[dataStream.readInt()];
 				inverse = dataStream.readBoolean();
 				
@@ -913,6 +849,7 @@ public class TileEntityDigitalMiner extends TileEntityElectricBlock implements I
 		if(searcher.state == State.SEARCHING)
 		{
 			data.add(searcher.found);
+			data.add(searcher.progress);
 		}
 		else {
 			data.add(getSize());
@@ -991,6 +928,7 @@ public class TileEntityDigitalMiner extends TileEntityElectricBlock implements I
 		if(searcher.state == State.SEARCHING)
 		{
 			data.add(searcher.found);
+			data.add(searcher.progress);
 		}
 		else {
 			data.add(getSize());
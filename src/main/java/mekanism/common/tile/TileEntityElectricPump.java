@@ -1,12 +1,9 @@
 package mekanism.common.tile;
 
 import io.netty.buffer.ByteBuf;
-
-import java.util.Arrays;
-import java.util.Collections;
-import java.util.HashSet;
-import java.util.List;
-import java.util.Set;
+import it.unimi.dsi.fastutil.longs.LongArrayFIFOQueue;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
 
 import mekanism.api.Coord4D;
 import mekanism.api.EnumColor;
@@ -42,6 +39,7 @@ import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.EnumActionResult;
 import net.minecraft.util.EnumFacing;
 import net.minecraft.util.NonNullList;
+import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.text.TextComponentString;
 import net.minecraftforge.common.capabilities.Capability;
 import net.minecraftforge.common.util.Constants.NBT;
@@ -79,8 +77,11 @@ public class TileEntityElectricPump extends TileEntityElectricBlock implements I
 	/** How many ticks this machine has been operating for. */
 	public int operatingTicks;
 
-	/** The nodes that have full sources near them or in them */
-	public Set<Coord4D> recurringNodes = new HashSet<>();
+	/** The nodes that have full sources near them or in them, keyed by BlockPos.toLong() */
+	public LongSet recurringNodes = new LongOpenHashSet();
+
+	/** The recurring nodes in the order they were found, so the pump works outwards from the ones nearest to it */
+	private LongArrayFIFOQueue frontier = new LongArrayFIFOQueue();
 
 	/** This machine's current RedstoneControl type. */
 	public RedstoneControl controlType = RedstoneControl.DISABLED;
@@ -171,27 +172,16 @@ public class TileEntityElectricPump extends TileEntityElectricBlock implements I
 
 	public boolean suck(boolean take)
 	{
-		List<Coord4D> tempPumpList = Arrays.asList(recurringNodes.toArray(new Coord4D[recurringNodes.size()]));
-		Collections.shuffle(tempPumpList);
-
 		//First see if there are any fluid blocks touching the pump - if so, sucks and adds the location to the recurring list
 		for(EnumFacing orientation : EnumFacing.VALUES)
 		{
 			Coord4D wrapper = Coord4D.get(this).offset(orientation);
-			FluidStack fluid = MekanismUtils.getFluid(world, wrapper, hasFilter());
 
-			if(fluid != null && (activeType == null || fluid.getFluid() == activeType) && (fluidTank.getFluid() == null || fluidTank.getFluid().isFluidEqual(fluid)))
+			if(suck(wrapper, take))
 			{
 				if(take)
 				{
-					activeType = fluid.getFluid();
-					recurringNodes.add(wrapper);
-					fluidTank.fill(fluid, true);
-					
-					if(shouldTake(fluid, wrapper))
-					{
-						world.setBlockToAir(wrapper.getPos());
-					}
+					addNode(wrapper.getPos().toLong());
 				}
 
 				return true;
@@ -199,24 +189,16 @@ public class TileEntityElectricPump extends TileEntityElectricBlock implements I
 		}
 
 		//Finally, go over the recurring list of nodes and see if there is a fluid block available to suck - if not, will iterate around the recurring block, attempt to suck, 
-		//and then add the adjacent block to the recurring list
-		for(Coord4D wrapper : tempPumpList)
+		//and then add the adjacent block to the recurring list. Nodes with nothing left around them are dropped for good.
+		int maxDistanceSq = (general.maxPumpRange+1)*(general.maxPumpRange+1);
+
+		while(!frontier.isEmpty())
 		{
-			FluidStack fluid = MekanismUtils.getFluid(world, wrapper, hasFilter());
+			long node = frontier.firstLong();
+			Coord4D wrapper = new Coord4D(BlockPos.fromLong(node), world);
 
-			if(fluid != null && (activeType == null || fluid.getFluid() == activeType) && (fluidTank.getFluid() == null || fluidTank.getFluid().isFluidEqual(fluid)))
+			if(suck(wrapper, take))
 			{
-				if(take)
-				{
-					activeType = fluid.getFluid();
-					fluidTank.fill(fluid, true);
-
-					if(shouldTake(fluid, wrapper))
-					{
-						world.setBlockToAir(wrapper.getPos());
-					}
-				}
-
 				return true;
 			}
 
@@ -224,40 +206,68 @@ public class TileEntityElectricPump extends TileEntityElectricBlock implements I
 			for(EnumFacing orientation : EnumFacing.VALUES)
 			{
 				Coord4D side = wrapper.offset(orientation);
+				int subX = side.x - pos.getX(), subY = side.y - pos.getY(), subZ = side.z - pos.getZ();
 
-				if(Coord4D.get(this).distanceTo(side) <= general.maxPumpRange)
+				if(subX*subX + subY*subY + subZ*subZ < maxDistanceSq && !recurringNodes.contains(side.getPos().toLong()) && suck(side, take))
 				{
-					fluid = MekanismUtils.getFluid(world, side, hasFilter());
-					
-					if(fluid != null && (activeType == null || fluid.getFluid() == activeType) && (fluidTank.getFluid() == null || fluidTank.getFluid().isFluidEqual(fluid)))
+					if(take)
 					{
-						if(take)
-						{
-							activeType = fluid.getFluid();
-							recurringNodes.add(side);
-							fluidTank.fill(fluid, true);
-							
-							if(shouldTake(fluid, side))
-							{
-								world.setBlockToAir(side.getPos());
-							}
-						}
-
-						return true;
+						addNode(side.getPos().toLong());
 					}
+
+					return true;
+				}
+			}
+
+			frontier.dequeueLong();
+			recurringNodes.remove(node);
+		}
+
+		return false;
+	}
+
+	/**
+	 * Sucks the fluid at a location if it matches what this pump is pumping.
+	 * @param wrapper - location to suck from
+	 * @param take - whether to actually take the fluid, or only check for it
+	 * @return whether there was fluid to suck
+	 */
+	private boolean suck(Coord4D wrapper, boolean take)
+	{
+		FluidStack fluid = MekanismUtils.getFluid(world, wrapper, hasFilter());
+
+		if(fluid != null && (activeType == null || fluid.getFluid() == activeType) && (fluidTank.getFluid() == null || fluidTank.getFluid().isFluidEqual(fluid)))
+		{
+			if(take)
+			{
+				activeType = fluid.getFluid();
+				fluidTank.fill(fluid, true);
+
+				if(shouldTake(fluid, wrapper))
+				{
+					world.setBlockToAir(wrapper.getPos());
 				}
 			}
 
-			recurringNodes.remove(wrapper);
+			return true;
 		}
 
 		return false;
 	}
+
+	private void addNode(long node)
+	{
+		if(recurringNodes.add(node))
+		{
+			frontier.enqueue(node);
+		}
+	}
 	
 	public void reset()
 	{
 		activeType = null;
 		recurringNodes.clear();
+		frontier.clear();
 	}
 	
 	private boolean shouldTake(FluidStack fluid, Coord4D coord)
@@ -329,18 +339,20 @@ public class TileEntityElectricPump extends TileEntityElectricBlock implements I
 
 		nbtTags.setInteger("controlType", controlType.ordinal());
 
-		NBTTagList recurringList = new NBTTagList();
-
-		for(Coord4D wrapper : recurringNodes)
+		if(!frontier.isEmpty())
 		{
-			NBTTagCompound tagCompound = new NBTTagCompound();
-			wrapper.write(tagCompound);
-			recurringList.appendTag(tagCompound);
-		}
+			//Two ints per node, the high and low halves of BlockPos.toLong(), in frontier order
+			int[] nodes = new int[frontier.size()*2];
 
-		if(recurringList.tagCount() != 0)
-		{
-			nbtTags.setTag("recurringNodes", recurringList);
+			for(int i = 0; i < frontier.size(); i++)
+			{
+				long node = frontier.dequeueLong();
+				nodes[i*2] = (int)(node >> 32);
+				nodes[i*2+1] = (int)node;
+				frontier.enqueue(node);
+			}
+
+			nbtTags.setIntArray("nodes", nodes);
 		}
 		
 		return nbtTags;
@@ -369,13 +381,25 @@ public class TileEntityElectricPump extends TileEntityElectricBlock implements I
 			controlType = RedstoneControl.values()[nbtTags.getInteger("controlType")];
 		}
 
-		if(nbtTags.hasKey("recurringNodes"))
+		recurringNodes.clear();
+		frontier.clear();
+
+		if(nbtTags.hasKey("nodes"))
+		{
+			int[] nodes = nbtTags.getIntArray("nodes");
+
+			for(int i = 0; i+1 < nodes.length; i += 2)
+			{
+				addNode(((long)nodes[i] << 32) | (nodes[i+1] & 0xFFFFFFFFL));
+			}
+		}
+		else if(nbtTags.hasKey("recurringNodes"))
 		{
 			NBTTagList tagList = nbtTags.getTagList("recurringNodes", NBT.TAG_COMPOUND);
 
 			for(int i = 0; i < tagList.tagCount(); i++)
 			{
-				recurringNodes.add(Coord4D.read(tagList.getCompoundTagAt(i)));
+				addNode(Coord4D.read(tagList.getCompoundTagAt(i)).getPos().toLong());
 			}
 		}
 	}
@@ -3,7 +3,10 @@ package mekanism.common.tile;
 import io.netty.buffer.ByteBuf;
 
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import mekanism.api.Coord4D;
 import mekanism.api.EnumColor;
@@ -35,9 +38,11 @@ import mekanism.common.base.ISideConfiguration;
 import mekanism.common.base.ITierUpgradeable;
 import mekanism.common.base.SoundWrapper;
 import mekanism.common.base.TileNetworkList;
+import mekanism.common.base.TileNetworkWriter;
 import mekanism.common.block.states.BlockStateMachine;
 import mekanism.common.block.states.BlockStateMachine.MachineType;
 import mekanism.common.capabilities.Capabilities;
+import mekanism.common.content.transporter.HashedItem;
 import mekanism.common.integration.computer.IComputerIntegration;
 import mekanism.common.network.PacketTileEntity.TileEntityMessage;
 import mekanism.common.recipe.RecipeHandler;
@@ -58,7 +63,6 @@ import mekanism.common.util.LangUtils;
 import mekanism.common.util.MekanismUtils;
 import mekanism.common.util.StackUtils;
 import mekanism.common.util.StatUtils;
-import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.util.EnumFacing;
@@ -109,6 +113,10 @@ public class TileEntityFactory extends TileEntityMachine implements IComputerInt
 	public GasTank gasTank;
 
 	public boolean sorting;
+
+	/** The input slot stacks and their sizes when the inventory was last sorted. */
+	private ItemStack[] lastSortStacks;
+	private int[] lastSortSizes;
 	
 	public boolean upgraded;
 	
@@ -393,81 +401,129 @@ public class TileEntityFactory extends TileEntityMachine implements IComputerInt
 		return configComponent.hasSideForData(TransmissionType.ENERGY, facing, 1, side);
 	}
 
+	/**
+	 * Evens out the input slots: the stacks of each item are spread evenly over the slots holding it, and empty slots
+	 * are handed to the items with the most per slot. Done in one pass, and only when the input slots changed.
+	 */
 	public void sortInventory()
 	{
-		if(sorting)
+		if(!sorting || !inputsChanged())
 		{
-			boolean didOp = false;
+			return;
+		}
 
-			int[] inputSlots = null;
+		Map<HashedItem, List<Integer>> groups = new LinkedHashMap<>();
+		Map<HashedItem, Integer> totals = new HashMap<>();
+		List<Integer> emptySlots = new ArrayList<>();
 
-			List<InvID> invStacks = new ArrayList<>();
+		for(int slot = 5; slot < 5+tier.processes; slot++)
+		{
+			ItemStack stack = inventory.get(slot);
 
-			if(tier == FactoryTier.BASIC)
+			if(stack.isEmpty())
 			{
-				inputSlots = new int[] {5, 6, 7};
+				emptySlots.add(slot);
+				continue;
 			}
-			else if(tier == FactoryTier.ADVANCED)
-			{
-				inputSlots = new int[] {5, 6, 7, 8, 9};
-			}
-			else if(tier == FactoryTier.ELITE)
+
+			HashedItem item = new HashedItem(stack);
+			groups.computeIfAbsent(item, key -> new ArrayList<>()).add(slot);
+			totals.merge(item, stack.getCount(), Integer::sum);
+		}
+
+		for(int slot : emptySlots)
+		{
+			HashedItem best = null;
+			double bestShare = 1;
+
+			for(Map.Entry<HashedItem, List<Integer>> entry : groups.entrySet())
 			{
-				inputSlots = new int[] {5, 6, 7, 8, 9, 10, 11};
+				double share = (double)totals.get(entry.getKey())/entry.getValue().size();
+
+				if(share > bestShare)
+				{
+					best = entry.getKey();
+					bestShare = share;
+				}
 			}
 
-			for(int id : inputSlots)
+			if(best == null)
 			{
-				invStacks.add(InvID.get(id, inventory));
+				break;
 			}
 
-			for(InvID invID1 : invStacks)
-			{
-				for(InvID invID2 : invStacks)
-				{
-					if(invID1.ID == invID2.ID || StackUtils.diffIgnoreNull(invID1.stack, invID2.stack) || Math.abs(invID1.size()-invID2.size()) < 2) continue;
+			groups.get(best).add(slot);
+		}
+
+		boolean didOp = false;
+
+		for(Map.Entry<HashedItem, List<Integer>> entry : groups.entrySet())
+		{
+			List<Integer> slots = entry.getValue();
+			int total = totals.get(entry.getKey());
+			int remains = total%slots.size();
 
-					List<ItemStack> evened = StackUtils.even(inventory.get(invID1.ID), inventory.get(invID2.ID));
-					inventory.set(invID1.ID, evened.get(0));
-					inventory.set(invID2.ID, evened.get(1));
+			for(int slot : slots)
+			{
+				int size = total/slots.size() + (remains-- > 0 ? 1 : 0);
+				ItemStack stack = inventory.get(slot);
 
+				if(stack.isEmpty())
+				{
+					inventory.set(slot, StackUtils.size(entry.getKey().itemStack, size));
 					didOp = true;
-					break;
 				}
-
-				if(didOp)
+				else if(stack.getCount() != size)
 				{
-					markDirty();
-					break;
+					stack.setCount(size);
+					didOp = true;
 				}
 			}
 		}
+
+		if(didOp)
+		{
+			markDirty();
+		}
+
+		rememberInputs();
 	}
 
-	public static class InvID
+	/**
+	 * @return whether any input slot holds a different stack, or a different amount, than when the inventory was last sorted
+	 */
+	private boolean inputsChanged()
 	{
-		public ItemStack stack;
-		public int ID;
-
-		public InvID(ItemStack s, int i)
+		if(lastSortStacks == null || lastSortStacks.length != tier.processes)
 		{
-			stack = s;
-			ID = i;
+			return true;
 		}
 
-		public int size()
+		for(int i = 0; i < tier.processes; i++)
 		{
-			return !stack.isEmpty() ? stack.getCount() : 0;
+			ItemStack stack = inventory.get(5+i);
+
+			if(stack != lastSortStacks[i] || stack.getCount() != lastSortSizes[i])
+			{
+				return true;
+			}
 		}
 
-		public Item item()
+		return false;
+	}
+
+	private void rememberInputs()
+	{
+		if(lastSortStacks == null || lastSortStacks.length != tier.processes)
 		{
-			return !stack.isEmpty() ? stack.getItem() : null;
+			lastSortStacks = new ItemStack[tier.processes];
+			lastSortSizes = new int[tier.processes];
 		}
 
-		public static InvID get(int id, NonNullList<ItemStack> inv)
+		for(int i = 0; i < tier.processes; i++)
 		{
-			return new InvID(inv.get(id), id);
+			lastSortStacks[i] = inventory.get(5+i);
+			lastSortSizes[i] = lastSortStacks[i].getCount();
 		}
 	}
 
@@ -865,6 +921,33 @@ public class TileEntityFactory extends TileEntityMachine implements IComputerInt
 		return data;
 	}
 
+	@Override
+	public void writeNetworkedData(TileNetworkWriter writer)
+	{
+		super.writeNetworkedData(writer);
+
+		writer.writeInt(recipeType.ordinal());
+		writer.writeInt(recipeTicks);
+		writer.writeBoolean(sorting);
+		writer.writeBoolean(upgraded);
+		writer.writeDouble(lastUsage);
+		writer.writeInt(infuseStored.amount);
+		writer.writeString(infuseStored.type != null ? infuseStored.type.name : "null");
+		writer.writeInts(progress);
+
+		if(gasTank.getGas() != null)
+		{
+			writer.writeBoolean(true);
+			writer.writeInt(gasTank.getGas().getGas().getID());
+			writer.writeInt(gasTank.getStored());
+		}
+		else {
+			writer.writeBoolean(false);
+		}
+		
+		upgraded = false;
+	}
+
 	public int getInputSlot(int operation)
 	{
 		return 5+operation;
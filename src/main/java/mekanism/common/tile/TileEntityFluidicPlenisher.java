@@ -1,11 +1,14 @@
 package mekanism.common.tile;
 
 import io.netty.buffer.ByteBuf;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongLinkedOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongList;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
 
 import java.util.EnumSet;
-import java.util.HashSet;
-import java.util.LinkedHashSet;
-import java.util.Set;
 
 import mekanism.api.Coord4D;
 import mekanism.api.EnumColor;
@@ -39,6 +42,7 @@ import net.minecraft.nbt.NBTTagList;
 import net.minecraft.util.EnumActionResult;
 import net.minecraft.util.EnumFacing;
 import net.minecraft.util.NonNullList;
+import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.text.TextComponentString;
 import net.minecraftforge.common.capabilities.Capability;
 import net.minecraftforge.common.util.Constants.NBT;
@@ -54,8 +58,12 @@ import net.minecraftforge.fml.common.network.ByteBufUtils;
 
 public class TileEntityFluidicPlenisher extends TileEntityElectricBlock implements IComputerIntegration, IConfigurable, IFluidHandlerWrapper, ISustainedTank, IUpgradeTile, IRedstoneControl, ISecurityTile
 {
-	public Set<Coord4D> activeNodes = new LinkedHashSet<>();
-	public Set<Coord4D> usedNodes = new HashSet<>();
+	/** Nodes still to be filled, in the order they were found, keyed by BlockPos.toLong() */
+	public LongLinkedOpenHashSet activeNodes = new LongLinkedOpenHashSet();
+	public LongSet usedNodes = new LongOpenHashSet();
+	
+	/** The nodes reached by the current operation, whose neighbours are added to the active nodes once it's done. */
+	private LongList filledNodes = new LongArrayList();
 	
 	public boolean finishedCalc = false;
 	
@@ -70,6 +78,9 @@ public class TileEntityFluidicPlenisher extends TileEntityElectricBlock implemen
 	public int BASE_TICKS_REQUIRED = 20;
 
 	public int ticksRequired = BASE_TICKS_REQUIRED;
+
+	/** How many nodes each operation fills; only more than one in batched mode. */
+	public int nodesPerOperation = 1;
 	
 	/** How many ticks this machine has been operating for. */
 	public int operatingTicks;
@@ -119,7 +130,7 @@ public class TileEntityFluidicPlenisher extends TileEntityElectricBlock implemen
 				else {
 					if(!finishedCalc)
 					{
-						doPlenish();
+						doPlenish(nodesPerOperation);
 					}
 					else {
 						Coord4D below = Coord4D.get(this).offset(EnumFacing.DOWN);
@@ -142,7 +153,7 @@ public class TileEntityFluidicPlenisher extends TileEntityElectricBlock implemen
 		}
 	}
 	
-	private void doPlenish()
+	private void doPlenish(int count)
 	{
 		if(usedNodes.size() >= general.maxPlenisherNodes)
 		{
@@ -162,7 +173,7 @@ public class TileEntityFluidicPlenisher extends TileEntityElectricBlock implemen
 					return;
 				}
 
-				activeNodes.add(below);
+				activeNodes.add(below.getPos().toLong());
 			}
 			else {
 				finishedCalc = true;
@@ -170,10 +181,13 @@ public class TileEntityFluidicPlenisher extends TileEntityElectricBlock implemen
 			}
 		}
 		
-		Set<Coord4D> toRemove = new HashSet<>();
-		
-		for(Coord4D coord : activeNodes)
+		LongIterator iter = activeNodes.iterator();
+
+		while(iter.hasNext() && filledNodes.size() < count && usedNodes.size() < general.maxPlenisherNodes && fluidTank.getFluid() != null)
 		{
+			long node = iter.nextLong();
+			Coord4D coord = new Coord4D(BlockPos.fromLong(node), world);
+
 			if(coord.exists(world))
 			{
 				if(canReplace(coord, true, false))
@@ -183,31 +197,36 @@ public class TileEntityFluidicPlenisher extends TileEntityElectricBlock implemen
 					fluidTank.drain(Fluid.BUCKET_VOLUME, true);
 				}
 				
-				for(EnumFacing dir : dirs)
+				filledNodes.add(node);
+			}
+			
+			iter.remove();
+			usedNodes.add(node);
+		}
+		
+		//Neighbours shared by several of the filled nodes are only looked at once
+		for(int i = 0; i < filledNodes.size(); i++)
+		{
+			Coord4D coord = new Coord4D(BlockPos.fromLong(filledNodes.getLong(i)), world);
+			
+			for(EnumFacing dir : dirs)
+			{
+				Coord4D sideCoord = coord.offset(dir);
+				long sideNode = sideCoord.getPos().toLong();
+				
+				if(!activeNodes.contains(sideNode) && sideCoord.exists(world) && canReplace(sideCoord, true, true))
 				{
-					Coord4D sideCoord = coord.offset(dir);
-					
-					if(sideCoord.exists(world) && canReplace(sideCoord, true, true))
-					{
-						activeNodes.add(sideCoord);
-					}
+					activeNodes.add(sideNode);
 				}
-				
-				toRemove.add(coord);
-				break;
-			}
-			else {
-				toRemove.add(coord);
 			}
 		}
-
-		usedNodes.addAll(toRemove);
-		activeNodes.removeAll(toRemove);
+		
+		filledNodes.clear();
 	}
 	
 	public boolean canReplace(Coord4D coord, boolean checkNodes, boolean isPathfinding)
 	{
-		if(checkNodes && usedNodes.contains(coord))
+		if(checkNodes && usedNodes.contains(coord.getPos().toLong()))
 		{
 			return false;
 		}
@@ -280,30 +299,14 @@ public class TileEntityFluidicPlenisher extends TileEntityElectricBlock implemen
 			nbtTags.setTag("fluidTank", fluidTank.writeToNBT(new NBTTagCompound()));
 		}
 		
-		NBTTagList activeList = new NBTTagList();
-
-		for(Coord4D wrapper : activeNodes)
-		{
-			NBTTagCompound tagCompound = new NBTTagCompound();
-			wrapper.write(tagCompound);
-			activeList.appendTag(tagCompound);
-		}
-
-		if(activeList.tagCount() != 0)
+		if(!activeNodes.isEmpty())
 		{
-			nbtTags.setTag("activeNodes", activeList);
+			nbtTags.setIntArray("activeNodeList", writeNodes(activeNodes));
 		}
 
-		NBTTagList usedList = new NBTTagList();
-
-		for(Coord4D obj : usedNodes)
+		if(!usedNodes.isEmpty())
 		{
-			activeList.appendTag(obj.write(new NBTTagCompound()));
-		}
-
-		if(activeList.tagCount() != 0)
-		{
-			nbtTags.setTag("usedNodes", usedList);
+			nbtTags.setIntArray("usedNodeList", writeNodes(usedNodes));
 		}
 		
 		return nbtTags;
@@ -323,24 +326,52 @@ public class TileEntityFluidicPlenisher extends TileEntityElectricBlock implemen
 			fluidTank.readFromNBT(nbtTags.getCompoundTag("fluidTank"));
 		}
 		
-		if(nbtTags.hasKey("activeNodes"))
+		activeNodes.clear();
+		usedNodes.clear();
+
+		if(nbtTags.hasKey("activeNodeList"))
+		{
+			readNodes(nbtTags.getIntArray("activeNodeList"), activeNodes);
+		}
+		else if(nbtTags.hasKey("activeNodes"))
 		{
 			NBTTagList tagList = nbtTags.getTagList("activeNodes", NBT.TAG_COMPOUND);
 
 			for(int i = 0; i < tagList.tagCount(); i++)
 			{
-				activeNodes.add(Coord4D.read(tagList.getCompoundTagAt(i)));
+				activeNodes.add(Coord4D.read(tagList.getCompoundTagAt(i)).getPos().toLong());
 			}
 		}
 
-		if(nbtTags.hasKey("usedNodes"))
+		if(nbtTags.hasKey("usedNodeList"))
 		{
-			NBTTagList tagList = nbtTags.getTagList("usedNodes", NBT.TAG_COMPOUND);
+			readNodes(nbtTags.getIntArray("usedNodeList"), usedNodes);
+		}
+	}
 
-			for(int i = 0; i < tagList.tagCount(); i++)
-			{
-				usedNodes.add(Coord4D.read(tagList.getCompoundTagAt(i)));
-			}
+	/**
+	 * Packs nodes into two ints each, the high and low halves of their BlockPos.toLong(), keeping their order.
+	 */
+	private static int[] writeNodes(LongSet nodes)
+	{
+		int[] ret = new int[nodes.size()*2];
+		int i = 0;
+
+		for(LongIterator iter = nodes.iterator(); iter.hasNext(); i += 2)
+		{
+			long node = iter.nextLong();
+			ret[i] = (int)(node >> 32);
+			ret[i+1] = (int)node;
+		}
+
+		return ret;
+	}
+
+	private static void readNodes(int[] packed, LongSet nodes)
+	{
+		for(int i = 0; i+1 < packed.length; i += 2)
+		{
+			nodes.add(((long)packed[i] << 32) | (packed[i+1] & 0xFFFFFFFFL));
 		}
 	}
 
@@ -560,7 +591,17 @@ public class TileEntityFluidicPlenisher extends TileEntityElectricBlock implemen
 		switch(upgrade)
 		{
 			case SPEED:
-				ticksRequired = MekanismUtils.getTicks(this, BASE_TICKS_REQUIRED);
+				if(general.plenisherBatchedMode)
+				{
+					//Same fill rate and energy per block as the faster operations, in fewer and bigger steps
+					int ticks = Math.max(1, MekanismUtils.getTicks(this, BASE_TICKS_REQUIRED));
+					nodesPerOperation = Math.max(1, BASE_TICKS_REQUIRED/ticks);
+					ticksRequired = nodesPerOperation*ticks;
+				}
+				else {
+					nodesPerOperation = 1;
+					ticksRequired = MekanismUtils.getTicks(this, BASE_TICKS_REQUIRED);
+				}
 			case ENERGY:
 				energyPerTick = MekanismUtils.getEnergyPerTick(this, BASE_ENERGY_PER_TICK);
 				maxEnergy = MekanismUtils.getMaxEnergy(this, BASE_MAX_ENERGY);
@@ -9,6 +9,7 @@ import mekanism.api.Range4D;
 import mekanism.api.energy.IStrictEnergyStorage;
 import mekanism.common.Mekanism;
 import mekanism.common.base.TileNetworkList;
+import mekanism.common.base.TileNetworkWriter;
 import mekanism.common.capabilities.Capabilities;
 import mekanism.common.content.matrix.MatrixCache;
 import mekanism.common.content.matrix.MatrixUpdateProtocol;
@@ -84,7 +85,7 @@ public class TileEntityInductionCasing extends TileEntityMultiblock<Synchronized
 		
 		if(structure != null)
 		{
-			data.add(structure.getEnergy(world));
+			data.add(structure.getEnergy());
 			data.add(structure.storageCap);
 			data.add(structure.transferCap);
 			data.add(structure.lastInput);
@@ -101,6 +102,28 @@ public class TileEntityInductionCasing extends TileEntityMultiblock<Synchronized
 		return data;
 	}
 
+	@Override
+	public void writeNetworkedData(TileNetworkWriter writer)
+	{
+		super.writeNetworkedData(writer);
+		
+		if(structure != null)
+		{
+			writer.writeDouble(structure.getEnergy());
+			writer.writeDouble(structure.storageCap);
+			writer.writeDouble(structure.transferCap);
+			writer.writeDouble(structure.lastInput);
+			writer.writeDouble(structure.lastOutput);
+			
+			writer.writeInt(structure.volWidth);
+			writer.writeInt(structure.volHeight);
+			writer.writeInt(structure.volLength);
+			
+			writer.writeInt(structure.cells.size());
+			writer.writeInt(structure.providers.size());
+		}
+	}
+
 	@Override
 	public void handlePacketData(ByteBuf dataStream)
 	{
@@ -166,7 +189,7 @@ public class TileEntityInductionCasing extends TileEntityMultiblock<Synchronized
 	{
 		if(!world.isRemote)
 		{
-			return structure != null ? structure.getEnergy(world) : 0;
+			return structure != null ? structure.getEnergy() : 0;
 		}
 		else {
 			return structure != null ? structure.clientEnergy : 0;
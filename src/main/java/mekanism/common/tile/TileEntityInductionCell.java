@@ -6,6 +6,7 @@ import mekanism.api.energy.IStrictEnergyStorage;
 import mekanism.common.Tier.InductionCellTier;
 import mekanism.common.base.TileNetworkList;
 import mekanism.common.capabilities.Capabilities;
+import mekanism.common.content.matrix.SynchronizedMatrixData;
 import mekanism.common.tile.prefab.TileEntityBasicBlock;
 import mekanism.common.util.LangUtils;
 import mekanism.common.util.MekanismUtils;
@@ -19,6 +20,9 @@ public class TileEntityInductionCell extends TileEntityBasicBlock implements ISt
 	
 	public double electricityStored;
 	
+	/** The Induction Matrix this cell is part of, which holds its energy while formed. */
+	public SynchronizedMatrixData matrix;
+	
 	@Override
 	public void onUpdate() {}
 	
@@ -54,7 +58,7 @@ public class TileEntityInductionCell extends TileEntityBasicBlock implements ISt
 
 		super.getNetworkedData(data);
 		
-		data.add(electricityStored);
+		data.add(getEnergy());
 
 		return data;
 	}
@@ -74,21 +78,54 @@ public class TileEntityInductionCell extends TileEntityBasicBlock implements ISt
 		super.writeToNBT(nbtTags);
 
 		nbtTags.setInteger("tier", tier.ordinal());
-		nbtTags.setDouble("electricityStored", electricityStored);
+		nbtTags.setDouble("electricityStored", getEnergy());
+		
+		if(matrix != null)
+		{
+			matrix.cellChunksDirty = false;
+		}
 		
 		return nbtTags;
 	}
 
+	@Override
+	public void invalidate()
+	{
+		super.invalidate();
+		
+		if(matrix != null)
+		{
+			matrix.removeCell(this);
+		}
+	}
+	
+	@Override
+	public void onChunkUnload()
+	{
+		super.onChunkUnload();
+		
+		if(matrix != null)
+		{
+			matrix.removeCell(this);
+		}
+	}
+
 	@Override
 	public double getEnergy() 
 	{
-		return electricityStored;
+		return matrix != null ? matrix.getCellEnergy(this) : electricityStored;
 	}
 
 	@Override
 	public void setEnergy(double energy) 
 	{
-		electricityStored = Math.min(energy, getMaxEnergy());
+		if(matrix != null)
+		{
+			matrix.energy += Math.min(energy, getMaxEnergy())-getEnergy();
+		}
+		else {
+			electricityStored = Math.min(energy, getMaxEnergy());
+		}
 	}
 
 	@Override
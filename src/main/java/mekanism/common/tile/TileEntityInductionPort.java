@@ -19,6 +19,7 @@ import mekanism.common.Mekanism;
 import mekanism.common.base.IActiveState;
 import mekanism.common.base.IEnergyWrapper;
 import mekanism.common.base.TileNetworkList;
+import mekanism.common.base.TileNetworkWriter;
 import mekanism.common.capabilities.Capabilities;
 import mekanism.common.capabilities.CapabilityWrapperManager;
 import mekanism.common.config.MekanismConfig.general;
@@ -172,6 +173,14 @@ public class TileEntityInductionPort extends TileEntityInductionCasing implement
 		
 		return data;
 	}
+
+	@Override
+	public void writeNetworkedData(TileNetworkWriter writer)
+	{
+		super.writeNetworkedData(writer);
+		
+		writer.writeBoolean(mode);
+	}
 	
 	@Override
 	public void onAdded()
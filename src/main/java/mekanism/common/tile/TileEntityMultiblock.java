@@ -9,6 +9,7 @@ import mekanism.api.Range4D;
 import mekanism.common.Mekanism;
 import mekanism.common.PacketHandler;
 import mekanism.common.base.TileNetworkList;
+import mekanism.common.base.TileNetworkWriter;
 import mekanism.common.multiblock.IMultiblock;
 import mekanism.common.multiblock.IStructuralMultiblock;
 import mekanism.common.multiblock.MultiblockCache;
@@ -26,6 +27,7 @@ import net.minecraft.util.EnumFacing;
 import net.minecraft.util.EnumHand;
 import net.minecraft.util.NonNullList;
 import net.minecraft.util.math.AxisAlignedBB;
+import net.minecraft.util.math.BlockPos;
 import net.minecraftforge.fml.common.FMLCommonHandler;
 import net.minecraftforge.fml.relauncher.Side;
 import net.minecraftforge.fml.relauncher.SideOnly;
@@ -53,6 +55,9 @@ public abstract class TileEntityMultiblock<T extends SynchronizedData<T>> extend
 	/** This multiblock segment's cached inventory ID */
 	public String cachedID = null;
 	
+	/** The structure this segment last registered with the cache for. */
+	private T cachedStructure;
+	
 	public TileEntityMultiblock(String name)
 	{
 		super(name);
@@ -136,28 +141,104 @@ public abstract class TileEntityMultiblock<T extends SynchronizedData<T>> extend
 			{
 				getSynchronizedData().didTick = false;
 
+				if(!getSynchronizedData().hasRenderer)
+				{
+					//The rendering segment was unloaded, so this one takes over the structure
+					getSynchronizedData().hasRenderer = true;
+					isRendering = true;
+					sendStructure = true;
+
+					Mekanism.packetHandler.sendToReceivers(new TileEntityMessage(Coord4D.get(this), getNetworkedData(new TileNetworkList())), new Range4D(Coord4D.get(this)));
+				}
+
 				if(getSynchronizedData().inventoryID != null)
 				{
-					cachedData.sync(getSynchronizedData());
-					cachedID = getSynchronizedData().inventoryID;
-					getManager().updateCache(this);
+					if(structure != cachedStructure || !getSynchronizedData().inventoryID.equals(cachedID))
+					{
+						cachedData.sync(getSynchronizedData());
+						cachedID = getSynchronizedData().inventoryID;
+						cachedStructure = structure;
+						getManager().updateCache(this);
+					}
+					else if(isRendering)
+					{
+						getManager().syncCache(this);
+					}
 				}
 			}
 		}
 	}
 	
+	@Override
+	public void invalidate()
+	{
+		super.invalidate();
+
+		if(!world.isRemote)
+		{
+			getManager().markDirty(Coord4D.get(this));
+		}
+	}
+
+	@Override
+	public void onChunkUnload()
+	{
+		super.onChunkUnload();
+
+		if(!world.isRemote && structure != null && isRendering)
+		{
+			//Leave the cache up to date and let a segment that's still loaded take over
+			if(getSynchronizedData().inventoryID != null)
+			{
+				getManager().syncCache(this);
+			}
+
+			getSynchronizedData().hasRenderer = false;
+			isRendering = false;
+		}
+	}
+	
 	@Override
 	public void doUpdate()
 	{
 		if(!world.isRemote && (structure == null || !getSynchronizedData().didTick))
 		{
-			getProtocol().doUpdate();
+			getManager().queueUpdate(this);
+		}
+	}
+	
+	@Override
+	public void doUpdate(BlockPos changed)
+	{
+		if(!world.isRemote && structure != null && getProtocol().isUnaffected(structure, changed))
+		{
+			return;
+		}
+		
+		doUpdate();
+	}
+	
+	/**
+	 * Runs the protocol for this segment right away. Called by the manager for queued updates, so a structure is
+	 * scanned at most once per tick however many of its segments asked for it.
+	 * @return the protocol that ran, or null if the structure was already scanned this tick
+	 */
+	public UpdateProtocol<T> runUpdate()
+	{
+		if(!world.isRemote && (structure == null || !getSynchronizedData().didTick))
+		{
+			UpdateProtocol<T> protocol = getProtocol();
+			protocol.doUpdate();
 
 			if(structure != null)
 			{
 				getSynchronizedData().didTick = true;
 			}
+			
+			return protocol;
 		}
+		
+		return null;
 	}
 	
 	public void sendPacketToRenderer()
@@ -215,6 +296,35 @@ public abstract class TileEntityMultiblock<T extends SynchronizedData<T>> extend
 		return data;
 	}
 
+	@Override
+	public void writeNetworkedData(TileNetworkWriter writer)
+	{
+		super.writeNetworkedData(writer);
+
+		writer.writeBoolean(isRendering);
+		writer.writeBoolean(structure != null);
+		
+		if(structure != null && isRendering)
+		{
+			if(sendStructure)
+			{
+				sendStructure = false;
+
+				writer.writeBoolean(true);
+
+				writer.writeInt(getSynchronizedData().volHeight);
+				writer.writeInt(getSynchronizedData().volWidth);
+				writer.writeInt(getSynchronizedData().volLength);
+
+				writer.writeCoord(getSynchronizedData().renderLocation);
+				writer.writeString(getSynchronizedData().inventoryID);
+			}
+			else {
+				writer.writeBoolean(false);
+			}
+		}
+	}
+
 	@Override
 	public void handlePacketData(ByteBuf dataStream)
 	{
@@ -265,6 +375,11 @@ public abstract class TileEntityMultiblock<T extends SynchronizedData<T>> extend
 	{
 		super.writeToNBT(nbtTags);
 
+		if(world != null && !world.isRemote && structure != null && getSynchronizedData().inventoryID != null)
+		{
+			cachedData.sync(getSynchronizedData());
+		}
+
 		if(cachedID != null)
 		{
 			nbtTags.setString("cachedID", cachedID);
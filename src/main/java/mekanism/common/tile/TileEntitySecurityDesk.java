@@ -134,7 +134,7 @@ public class TileEntitySecurityDesk extends TileEntityContainerBlock implements
 			if(freq.ownerUUID.equals(owner))
 			{
 				frequency = (SecurityFrequency)freq;
-				frequency.activeCoords.add(Coord4D.get(this));
+				manager.activate(Coord4D.get(this), frequency);
 				
 				return;
 			}
@@ -189,6 +189,11 @@ public class TileEntitySecurityDesk extends TileEntityContainerBlock implements
 				}
 			}
 			
+			if(frequency != null)
+			{
+				Mekanism.securityFrequencies.markDirty();
+			}
+			
 			MekanismUtils.saveChunk(this);
 			
 			return;
@@ -66,6 +66,14 @@ public class TileEntityTeleporter extends TileEntityElectricBlock implements ICo
 
 	public Set<UUID> didTeleport = new HashSet<>();
 
+	/** The entities in teleportBounds, looked up once per tick and shared by everything that needs them. */
+	private List<Entity> entitiesInBounds = new ArrayList<>();
+
+	/** The closest other teleporter, kept until the frequency or its active coordinates change. */
+	private Coord4D closestCoords;
+	private Frequency closestFrequency;
+	private int closestVersion;
+
 	public int teleDelay = 0;
 
 	public boolean shouldRender;
@@ -128,6 +136,7 @@ public class TileEntityTeleporter extends TileEntityElectricBlock implements ICo
 				frequency = null;
 			}
 			
+			entitiesInBounds = world.getEntitiesWithinAABB(Entity.class, teleportBounds);
 			status = canTeleport();
 
 			if(MekanismUtils.canFunction(this) && status == 1 && teleDelay == 0)
@@ -170,7 +179,14 @@ public class TileEntityTeleporter extends TileEntityElectricBlock implements ICo
 	{
 		if(frequency != null)
 		{
-			return frequency.getClosestCoords(Coord4D.get(this));
+			if(frequency != closestFrequency || frequency.activeCoordsVersion != closestVersion)
+			{
+				closestCoords = frequency.getClosestCoords(Coord4D.get(this));
+				closestFrequency = frequency;
+				closestVersion = frequency.activeCoordsVersion;
+			}
+			
+			return closestCoords;
 		}
 		
 		return null;
@@ -181,15 +197,14 @@ public class TileEntityTeleporter extends TileEntityElectricBlock implements ICo
 		FrequencyManager manager = getManager(new Frequency(name, null).setPublic(publicFreq));
 		manager.deactivate(Coord4D.get(this));
 		
-		for(Frequency freq : manager.getFrequencies())
+		Frequency found = manager.getFrequency(name);
+		
+		if(found != null)
 		{
-			if(freq.name.equals(name))
-			{
-				frequency = freq;
-				frequency.activeCoords.add(Coord4D.get(this));
-				
-				return;
-			}
+			frequency = found;
+			manager.activate(Coord4D.get(this), frequency);
+			
+			return;
 		}
 		
 		Frequency freq = new Frequency(name, getSecurity().getOwnerUUID()).setPublic(publicFreq);
@@ -262,7 +277,7 @@ public class TileEntityTeleporter extends TileEntityElectricBlock implements ICo
 	{
 		List<UUID> list = new ArrayList<>();
 		
-		for(Entity e : world.getEntitiesWithinAABB(Entity.class, teleportBounds))
+		for(Entity e : entitiesInBounds)
 		{
 			list.add(e.getPersistentID());
 		}
@@ -316,8 +331,13 @@ public class TileEntityTeleporter extends TileEntityElectricBlock implements ICo
 		}
 
 		List<Entity> entitiesInPortal = getToTeleport();
-		Coord4D closestCoords = getClosest();
 
+		if(entitiesInPortal.isEmpty())
+		{
+			return 1;
+		}
+
+		Coord4D closestCoords = getClosest();
 		int electricityNeeded = 0;
 
 		for(Entity entity : entitiesInPortal)
@@ -491,10 +511,9 @@ public class TileEntityTeleporter extends TileEntityElectricBlock implements ICo
 
 	public List<Entity> getToTeleport()
 	{
-		List<Entity> entities = world.getEntitiesWithinAABB(Entity.class, teleportBounds);
 		List<Entity> ret = new ArrayList<>();
 
-		for(Entity entity : entities)
+		for(Entity entity : entitiesInBounds)
 		{
 			if(!didTeleport.contains(entity.getPersistentID()))
 			{
@@ -14,6 +14,7 @@ import mekanism.common.SideData;
 import mekanism.common.SideData.IOState;
 import mekanism.common.base.ITileComponent;
 import mekanism.common.base.TileNetworkList;
+import mekanism.common.base.TileNetworkWriter;
 import mekanism.common.tile.prefab.TileEntityContainerBlock;
 import mekanism.common.util.InventoryUtils;
 import mekanism.common.util.MekanismUtils;
@@ -260,6 +261,23 @@ public class TileComponentConfig implements ITileComponent
 			data.add(ejecting.get(type));
 		}
 	}
+
+	@Override
+	public void write(TileNetworkWriter writer)
+	{
+		writer.writeInt(transmissions.size());
+		
+		for(TransmissionType type : transmissions)
+		{
+			writer.writeInt(type.ordinal());
+		}
+		
+		for(TransmissionType type : transmissions)
+		{
+			writer.writeBytes(sideConfigs.get(type).asByteArray());
+			writer.writeBoolean(ejecting.get(type));
+		}
+	}
 	
 	@Override
 	public void invalidate() {}
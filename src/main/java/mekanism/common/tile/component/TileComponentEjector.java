@@ -17,9 +17,11 @@ import mekanism.common.base.ISideConfiguration;
 import mekanism.common.base.ITankManager;
 import mekanism.common.base.ITileComponent;
 import mekanism.common.base.TileNetworkList;
+import mekanism.common.base.TileNetworkWriter;
 import mekanism.common.capabilities.Capabilities;
 import mekanism.common.content.transporter.TransitRequest;
 import mekanism.common.content.transporter.TransitRequest.TransitResponse;
+import mekanism.common.content.transporter.TransporterManager;
 import mekanism.common.tile.prefab.TileEntityContainerBlock;
 import mekanism.common.util.CapabilityUtils;
 import mekanism.common.util.GasUtils;
@@ -244,6 +246,7 @@ public class TileComponentEjector implements ITileComponent
 	{
 		strictInput = strict;
 		MekanismUtils.saveChunk(tileEntity);
+		TransporterManager.onDestinationChanged(tileEntity);
 	}
 
 	public void setOutputColor(EnumColor color)
@@ -261,6 +264,7 @@ public class TileComponentEjector implements ITileComponent
 	{
 		inputColors[side.ordinal()] = color;
 		MekanismUtils.saveChunk(tileEntity);
+		TransporterManager.onDestinationChanged(tileEntity);
 	}
 
 	public EnumColor getInputColor(EnumFacing side)
@@ -386,6 +390,18 @@ public class TileComponentEjector implements ITileComponent
 			}
 		}
 	}
+
+	@Override
+	public void write(TileNetworkWriter writer)
+	{
+		writer.writeBoolean(strictInput);
+		writer.writeInt(outputColor != null ? TransporterUtils.colors.indexOf(outputColor) : -1);
+
+		for(int i = 0; i < 6; i++)
+		{
+			writer.writeInt(inputColors[i] != null ? TransporterUtils.colors.indexOf(inputColors[i]) : -1);
+		}
+	}
 	
 	@Override
 	public void invalidate() {}
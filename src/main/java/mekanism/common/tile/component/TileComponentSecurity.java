@@ -9,6 +9,7 @@ import mekanism.common.Mekanism;
 import mekanism.common.PacketHandler;
 import mekanism.common.base.ITileComponent;
 import mekanism.common.base.TileNetworkList;
+import mekanism.common.base.TileNetworkWriter;
 import mekanism.common.config.MekanismConfig.general;
 import mekanism.common.frequency.Frequency;
 import mekanism.common.frequency.FrequencyManager;
@@ -100,7 +101,7 @@ public class TileComponentSecurity implements ITileComponent
 			if(freq.ownerUUID.equals(owner))
 			{
 				frequency = (SecurityFrequency)freq;
-				frequency.activeCoords.add(Coord4D.get(tileEntity));
+				manager.activate(Coord4D.get(tileEntity), frequency);
 				
 				return;
 			}
@@ -228,6 +229,34 @@ public class TileComponentSecurity implements ITileComponent
 			data.add(false);
 		}
 	}
+
+	@Override
+	public void write(TileNetworkWriter writer)
+	{
+		writer.writeInt(securityMode.ordinal());
+		
+		if(ownerUUID != null)
+		{
+			writer.writeBoolean(true);
+			writer.writeString(ownerUUID.toString());
+			writer.writeString(MekanismUtils.getLastKnownUsername(ownerUUID));
+		}
+		else {
+			writer.writeBoolean(false);
+		}
+		
+		if(frequency != null)
+		{
+			TileNetworkList frequencyData = new TileNetworkList();
+			frequency.write(frequencyData);
+			
+			writer.writeBoolean(true);
+			writer.writeList(frequencyData);
+		}
+		else {
+			writer.writeBoolean(false);
+		}
+	}
 	
 	@Override
 	public void invalidate()
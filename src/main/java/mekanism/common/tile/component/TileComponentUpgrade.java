@@ -14,6 +14,7 @@ import mekanism.common.Upgrade;
 import mekanism.common.base.ITileComponent;
 import mekanism.common.base.IUpgradeItem;
 import mekanism.common.base.TileNetworkList;
+import mekanism.common.base.TileNetworkWriter;
 import mekanism.common.network.PacketTileEntity.TileEntityMessage;
 import mekanism.common.tile.prefab.TileEntityContainerBlock;
 import net.minecraft.nbt.NBTTagCompound;
@@ -205,6 +206,20 @@ public class TileComponentUpgrade implements ITileComponent
 		
 		data.add(upgradeTicks);
 	}
+
+	@Override
+	public void write(TileNetworkWriter writer)
+	{
+		writer.writeInt(upgrades.size());
+		
+		for(Map.Entry<Upgrade, Integer> entry : upgrades.entrySet())
+		{
+			writer.writeInt(entry.getKey().ordinal());
+			writer.writeInt(entry.getValue());
+		}
+		
+		writer.writeInt(upgradeTicks);
+	}
 	
 	@Override
 	public void read(NBTTagCompound nbtTags)
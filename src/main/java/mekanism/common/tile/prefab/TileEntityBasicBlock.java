@@ -1,18 +1,23 @@
 package mekanism.common.tile.prefab;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.buffer.Unpooled;
 
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import mekanism.api.Coord4D;
 import mekanism.api.Range4D;
 import mekanism.common.Mekanism;
+import mekanism.common.base.EnergyOutputCache;
 import mekanism.common.base.IChunkLoadHandler;
 import mekanism.common.base.ITileComponent;
 import mekanism.common.base.ITileNetwork;
 import mekanism.common.base.TileNetworkList;
+import mekanism.common.base.TileNetworkWriter;
 import mekanism.common.block.states.BlockStateMachine;
 import mekanism.common.block.states.BlockStateMachine.MachineType;
 import mekanism.common.capabilities.Capabilities;
@@ -23,6 +28,7 @@ import mekanism.common.frequency.IFrequencyHandler;
 import mekanism.common.integration.MekanismHooks;
 import mekanism.common.network.PacketDataRequest.DataRequestMessage;
 import mekanism.common.network.PacketTileEntity.TileEntityMessage;
+import mekanism.common.network.PacketTileSync.TileSyncMessage;
 import mekanism.common.security.ISecurityTile;
 import mekanism.common.util.MekanismUtils;
 import net.minecraft.block.Block;
@@ -55,6 +61,20 @@ public abstract class TileEntityBasicBlock extends TileEntity implements ITileNe
 
 	public boolean doAutoSync = true;
 
+	/** The energy acceptors around this block, only used by blocks that emit through CableUtils.emit(). */
+	public EnergyOutputCache energyOutputs;
+
+	/** The data last sent to the players using this block, and the players that have received all of it. */
+	private TileNetworkWriter lastSync;
+	private Set<EntityPlayer> syncedPlayers = new HashSet<>();
+
+	/** Reused every tick to write the data field by field, so that only the fields that changed have to be sent. */
+	private TileNetworkList syncList = new TileNetworkList();
+	private TileNetworkWriter syncWriter;
+
+	/** The data last received from the server, which changed fields are applied to. Only used on the client. */
+	private ByteBuf clientSyncData;
+
 	public List<ITileComponent> components = new ArrayList<>();
 
 	@Override
@@ -83,10 +103,11 @@ public abstract class TileEntityBasicBlock extends TileEntity implements ITileNe
 		{
 			if(doAutoSync && playersUsing.size() > 0)
 			{
-				for(EntityPlayer player : playersUsing)
-				{
-					Mekanism.packetHandler.sendTo(new TileEntityMessage(Coord4D.get(this), getNetworkedData(new TileNetworkList())), (EntityPlayerMP)player);
-				}
+				syncPlayersUsing();
+			}
+			else if(lastSync != null)
+			{
+				releaseSyncBuffers();
 			}
 		}
 
@@ -94,6 +115,103 @@ public abstract class TileEntityBasicBlock extends TileEntity implements ITileNe
 		redstoneLastTick = redstone;
 	}
 	
+	/**
+	 * Sends this block's data to the players using it. The data is written field by field and compared to what was
+	 * last sent, and players who have already received it are only sent the fields that changed. Players who haven't
+	 * are sent all of it. The encoded data is shared by every message.
+	 */
+	protected void syncPlayersUsing()
+	{
+		if(syncWriter == null || syncWriter.getBuffer().refCnt() > 1)
+		{
+			//A message that hasn't been written yet still holds the old buffer, so it's left to that message
+			if(syncWriter != null)
+			{
+				syncWriter.getBuffer().release();
+			}
+
+			syncWriter = new TileNetworkWriter(PooledByteBufAllocator.DEFAULT.buffer(), true);
+		}
+
+		syncList.clear();
+		syncWriter.clear();
+		syncWriter.writeTile(this, syncList);
+
+		ByteBuf delta = null;
+
+		if(lastSync == null || !syncWriter.getBuffer().equals(lastSync.getBuffer()))
+		{
+			if(lastSync != null)
+			{
+				delta = PooledByteBufAllocator.DEFAULT.buffer();
+
+				if(!syncWriter.writeDelta(lastSync, delta) || delta.readableBytes() >= syncWriter.getBuffer().readableBytes())
+				{
+					delta.release();
+					delta = null;
+					syncedPlayers.clear();
+				}
+			}
+
+			TileNetworkWriter prev = lastSync;
+			lastSync = syncWriter;
+			syncWriter = prev;
+		}
+
+		for(EntityPlayer player : playersUsing)
+		{
+			if(syncedPlayers.add(player))
+			{
+				Mekanism.packetHandler.sendTo(new TileSyncMessage(Coord4D.get(this), lastSync.getBuffer(), false), (EntityPlayerMP)player);
+			}
+			else if(delta != null)
+			{
+				Mekanism.packetHandler.sendTo(new TileSyncMessage(Coord4D.get(this), delta, true), (EntityPlayerMP)player);
+			}
+		}
+
+		if(delta != null)
+		{
+			delta.release();
+		}
+	}
+
+	/**
+	 * Handles the data this block keeps synced with the players using it. Changed fields are applied to the data
+	 * last received, which is asked for again if it's missing.
+	 * @param data - all of the data, or the fields that changed
+	 * @param delta - whether only the fields that changed were sent
+	 */
+	public void handleSyncData(ByteBuf data, boolean delta)
+	{
+		if(delta)
+		{
+			if(clientSyncData == null)
+			{
+				Mekanism.packetHandler.sendToServer(new DataRequestMessage(Coord4D.get(this)));
+				return;
+			}
+
+			ByteBuf applied = Unpooled.buffer(clientSyncData.readableBytes());
+			TileNetworkWriter.applyDelta(clientSyncData, data, applied);
+			clientSyncData = applied;
+		}
+		else {
+			clientSyncData = Unpooled.copiedBuffer(data);
+		}
+
+		handlePacketData(clientSyncData.duplicate());
+	}
+
+	/**
+	 * Makes sure a player is sent all of this block's synced data next time, as they no longer have what was sent.
+	 * @param player - player to send all of the data to
+	 */
+	public void resetSync(EntityPlayer player)
+	{
+		syncedPlayers.remove(player);
+	}
+
 	@Override
 	public void updateContainingBlockInfo()
 	{
@@ -116,6 +234,7 @@ public abstract class TileEntityBasicBlock extends TileEntity implements ITileNe
 	public void close(EntityPlayer player)
 	{
 		playersUsing.remove(player);
+		syncedPlayers.remove(player);
 	}
 
 	@Override
@@ -153,18 +272,57 @@ public abstract class TileEntityBasicBlock extends TileEntity implements ITileNe
 
 		return data;
 	}
+
+	@Override
+	public void writeNetworkedData(TileNetworkWriter writer)
+	{
+		writer.writeInt(facing == null ? -1 : facing.ordinal());
+		writer.writeBoolean(redstone);
+
+		for(ITileComponent component : components)
+		{
+			component.write(writer);
+		}
+	}
 	
 	@Override
 	public void invalidate()
 	{
 		super.invalidate();
 		
+		releaseSyncBuffers();
+		
 		for(ITileComponent component : components)
 		{
 			component.invalidate();
 		}
 	}
 
+	@Override
+	public void onChunkUnload()
+	{
+		super.onChunkUnload();
+
+		releaseSyncBuffers();
+	}
+
+	private void releaseSyncBuffers()
+	{
+		if(lastSync != null)
+		{
+			lastSync.getBuffer().release();
+			lastSync = null;
+		}
+
+		if(syncWriter != null)
+		{
+			syncWriter.getBuffer().release();
+			syncWriter = null;
+		}
+
+		syncedPlayers.clear();
+	}
+
 	@Override
 	public void validate()
 	{
@@ -275,6 +433,11 @@ public abstract class TileEntityBasicBlock extends TileEntity implements ITileNe
 		if(!world.isRemote)
 		{
 			updatePower();
+
+			if(energyOutputs != null)
+			{
+				energyOutputs.markDirty();
+			}
 		}
 	}
 	
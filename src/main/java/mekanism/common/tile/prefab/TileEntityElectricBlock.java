@@ -11,6 +11,7 @@ import io.netty.buffer.ByteBuf;
 
 import mekanism.common.base.IEnergyWrapper;
 import mekanism.common.base.TileNetworkList;
+import mekanism.common.base.TileNetworkWriter;
 import mekanism.common.capabilities.Capabilities;
 import mekanism.common.capabilities.CapabilityWrapperManager;
 import mekanism.common.config.MekanismConfig.general;
@@ -158,6 +159,14 @@ public abstract class TileEntityElectricBlock extends TileEntityContainerBlock i
 		
 		return data;
 	}
+
+	@Override
+	public void writeNetworkedData(TileNetworkWriter writer)
+	{
+		super.writeNetworkedData(writer);
+		
+		writer.writeDouble(getEnergy());
+	}
 	
 	@Override
 	public void onAdded()
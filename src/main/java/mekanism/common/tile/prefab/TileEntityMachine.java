@@ -11,6 +11,7 @@ import mekanism.common.Upgrade;
 import mekanism.common.base.IRedstoneControl;
 import mekanism.common.base.IUpgradeTile;
 import mekanism.common.base.TileNetworkList;
+import mekanism.common.base.TileNetworkWriter;
 import mekanism.common.config.MekanismConfig.general;
 import mekanism.common.network.PacketTileEntity.TileEntityMessage;
 import mekanism.common.security.ISecurityTile;
@@ -152,6 +153,17 @@ public abstract class TileEntityMachine extends TileEntityNoisyBlock implements
 		return data;
 	}
 
+	@Override
+	public void writeNetworkedData(TileNetworkWriter writer)
+	{
+		super.writeNetworkedData(writer);
+
+		writer.writeBoolean(isActive);
+		writer.writeInt(controlType.ordinal());
+		writer.writeDouble(energyPerTick);
+		writer.writeDouble(maxEnergy);
+	}
+
 	@Override
 	public void readFromNBT(NBTTagCompound nbtTags)
 	{
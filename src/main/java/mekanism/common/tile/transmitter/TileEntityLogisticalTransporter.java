@@ -166,7 +166,32 @@ public class TileEntityLogisticalTransporter extends TileEntityTransmitter<TileE
 	{
 		super.onWorldJoin();
 
-		PathfinderCache.onChanged(new Coord4D(getPos(), getWorld()));
+		if(!getWorld().isRemote)
+		{
+			PathfinderCache.onChanged(new Coord4D(getPos(), getWorld()));
+		}
+	}
+
+	@Override
+	public void onNeighborTileChange(EnumFacing side)
+	{
+		super.onNeighborTileChange(side);
+
+		if(!getWorld().isRemote && getTransmitter().hasTransmitterNetwork())
+		{
+			getTransmitter().getTransmitterNetwork().onDestinationChanged(getTransmitter().coord().offset(side));
+		}
+	}
+
+	@Override
+	public void markDirtyTransmitters()
+	{
+		super.markDirtyTransmitters();
+
+		if(!getWorld().isRemote && getTransmitter().hasTransmitterNetwork())
+		{
+			PathfinderCache.onNetworkChanged(getTransmitter().getTransmitterNetwork());
+		}
 	}
 
 	@Override
@@ -351,6 +376,12 @@ public class TileEntityLogisticalTransporter extends TileEntityTransmitter<TileE
 		TransporterUtils.incrementColor(getTransmitter());
 		onPartChanged(null);
 		PathfinderCache.onChanged(new Coord4D(getPos(), getWorld()));
+
+		if(getTransmitter().hasTransmitterNetwork())
+		{
+			PathfinderCache.onNetworkChanged(getTransmitter().getTransmitterNetwork());
+		}
+
 		Mekanism.packetHandler.sendToReceivers(new TileEntityMessage(new Coord4D(getPos(), getWorld()), getNetworkedData(new TileNetworkList())), new Range4D(new Coord4D(getPos(), getWorld())));
 		TextComponentGroup msg = new TextComponentGroup(TextFormatting.GRAY)
 			.string("[Mekanism] ", TextFormatting.DARK_BLUE)
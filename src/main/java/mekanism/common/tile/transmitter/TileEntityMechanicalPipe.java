@@ -2,7 +2,9 @@ package mekanism.common.tile.transmitter;
 
 import io.netty.buffer.ByteBuf;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 
 import mekanism.api.transmitters.TransmissionType;
 import mekanism.common.Tier;
@@ -17,9 +19,11 @@ import mekanism.common.transmitters.grid.FluidNetwork;
 import mekanism.common.util.CapabilityUtils;
 import mekanism.common.util.PipeUtils;
 import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.nbt.NBTTagList;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.EnumFacing;
 import net.minecraftforge.common.capabilities.Capability;
+import net.minecraftforge.common.util.Constants.NBT;
 import net.minecraftforge.fluids.Fluid;
 import net.minecraftforge.fluids.FluidStack;
 import net.minecraftforge.fluids.FluidTank;
@@ -36,6 +40,11 @@ public class TileEntityMechanicalPipe extends TileEntityTransmitter<IFluidHandle
 	public FluidTank buffer = new FluidTank(Fluid.BUCKET_VOLUME);
 
 	public FluidStack lastWrite;
+
+	/** Fluids of other types than the buffer's, to hand back to the network; see FluidNetwork.extraBuffers. */
+	public List<FluidStack> extraBuffer = new ArrayList<>();
+
+	public List<FluidStack> lastExtraWrites = new ArrayList<>();
 	
 	@Override
 	public BaseTier getBaseTier()
@@ -93,6 +102,17 @@ public class TileEntityMechanicalPipe extends TileEntityTransmitter<IFluidHandle
                 lastWrite = last;
                 markDirty();
             }
+
+            if(!getTransmitter().getTransmitterNetwork().extraBuffers.isEmpty() || !lastExtraWrites.isEmpty())
+            {
+                List<FluidStack> extras = getExtraSaveShares();
+
+                if(!sharesEqual(extras, lastExtraWrites))
+                {
+                    lastExtraWrites = extras;
+                    markDirty();
+                }
+            }
         }
     }
 
@@ -114,6 +134,48 @@ public class TileEntityMechanicalPipe extends TileEntityTransmitter<IFluidHandle
 		return null;
 	}
 
+	private List<FluidStack> getExtraSaveShares()
+	{
+		FluidNetwork network = getTransmitter().getTransmitterNetwork();
+		List<FluidStack> ret = new ArrayList<>();
+		boolean first = network.transmitters.iterator().next().equals(getTransmitter());
+
+		for(FluidStack extra : network.extraBuffers)
+		{
+			int toSave = extra.amount/network.transmitters.size();
+
+			if(first)
+			{
+				toSave += extra.amount%network.transmitters.size();
+			}
+
+			if(toSave > 0)
+			{
+				ret.add(PipeUtils.copy(extra, toSave));
+			}
+		}
+
+		return ret;
+	}
+
+	private static boolean sharesEqual(List<FluidStack> shares, List<FluidStack> other)
+	{
+		if(shares.size() != other.size())
+		{
+			return false;
+		}
+
+		for(int i = 0; i < shares.size(); i++)
+		{
+			if(!shares.get(i).isFluidStackIdentical(other.get(i)))
+			{
+				return false;
+			}
+		}
+
+		return true;
+	}
+
 	@Override
 	public void onChunkUnload()
 	{
@@ -128,6 +190,18 @@ public class TileEntityMechanicalPipe extends TileEntityTransmitter<IFluidHandle
 					getTransmitter().getTransmitterNetwork().buffer = null;
 				}
 			}
+
+			for(FluidStack share : lastExtraWrites)
+			{
+				FluidStack extra = getTransmitter().getTransmitterNetwork().getExtraBuffer(share);
+
+				if(extra != null)
+				{
+					extra.amount -= share.amount;
+				}
+			}
+
+			getTransmitter().getTransmitterNetwork().extraBuffers.removeIf(extra -> extra.amount <= 0);
 		}
 
 		super.onChunkUnload();
@@ -148,6 +222,20 @@ public class TileEntityMechanicalPipe extends TileEntityTransmitter<IFluidHandle
         else {
             buffer.setFluid(null);
         }
+
+		extraBuffer.clear();
+
+		NBTTagList extraList = nbtTags.getTagList("cacheFluidExtra", NBT.TAG_COMPOUND);
+
+		for(int i = 0; i < extraList.tagCount(); i++)
+		{
+			FluidStack extra = FluidStack.loadFluidStackFromNBT(extraList.getCompoundTagAt(i));
+
+			if(extra != null)
+			{
+				extraBuffer.add(extra);
+			}
+		}
 	}
 
 	@Override
@@ -163,6 +251,21 @@ public class TileEntityMechanicalPipe extends TileEntityTransmitter<IFluidHandle
             nbtTags.removeTag("cacheFluid");
         }
 
+		if(!lastExtraWrites.isEmpty())
+		{
+			NBTTagList extraList = new NBTTagList();
+
+			for(FluidStack share : lastExtraWrites)
+			{
+				extraList.appendTag(share.writeToNBT(new NBTTagCompound()));
+			}
+
+			nbtTags.setTag("cacheFluidExtra", extraList);
+		}
+		else {
+			nbtTags.removeTag("cacheFluidExtra");
+		}
+
 		nbtTags.setInteger("tier", tier.ordinal());
 		
 		return nbtTags;
@@ -218,6 +321,20 @@ public class TileEntityMechanicalPipe extends TileEntityTransmitter<IFluidHandle
 			getTransmitter().getTransmitterNetwork().buffer.amount -= lastWrite.amount;
 			buffer.setFluid(lastWrite);
 		}
+
+		if(getTransmitter().hasTransmitterNetwork())
+		{
+			for(FluidStack share : lastExtraWrites)
+			{
+				FluidStack extra = getTransmitter().getTransmitterNetwork().getExtraBuffer(share);
+
+				if(extra != null)
+				{
+					extra.amount -= share.amount;
+					extraBuffer.add(share.copy());
+				}
+			}
+		}
 	}
 
 	@Override
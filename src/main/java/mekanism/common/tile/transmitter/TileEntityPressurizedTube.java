@@ -2,7 +2,9 @@ package mekanism.common.tile.transmitter;
 
 import io.netty.buffer.ByteBuf;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 
 import mekanism.api.gas.Gas;
 import mekanism.api.gas.GasStack;
@@ -20,9 +22,11 @@ import mekanism.common.transmitters.grid.GasNetwork;
 import mekanism.common.util.CapabilityUtils;
 import mekanism.common.util.GasUtils;
 import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.nbt.NBTTagList;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.EnumFacing;
 import net.minecraftforge.common.capabilities.Capability;
+import net.minecraftforge.common.util.Constants.NBT;
 
 import javax.annotation.Nonnull;
 
@@ -35,6 +39,11 @@ public class TileEntityPressurizedTube extends TileEntityTransmitter<IGasHandler
 	public GasTank buffer = new GasTank(getCapacity());
 
 	public GasStack lastWrite;
+
+	/** Gases of other types than the buffer's, to hand back to the network; see GasNetwork.extraBuffers. */
+	public List<GasStack> extraBuffer = new ArrayList<>();
+
+	public List<GasStack> lastExtraWrites = new ArrayList<>();
 	
 	@Override
 	public BaseTier getBaseTier()
@@ -101,6 +110,17 @@ public class TileEntityPressurizedTube extends TileEntityTransmitter<IGasHandler
                 lastWrite = last;
                 markDirty();
             }
+
+            if(!getTransmitter().getTransmitterNetwork().extraBuffers.isEmpty() || !lastExtraWrites.isEmpty())
+            {
+                List<GasStack> extras = getExtraSaveShares();
+
+                if(!sharesEqual(extras, lastExtraWrites))
+                {
+                    lastExtraWrites = extras;
+                    markDirty();
+                }
+            }
         }
     }
 
@@ -122,6 +142,48 @@ public class TileEntityPressurizedTube extends TileEntityTransmitter<IGasHandler
 		return null;
 	}
 
+	private List<GasStack> getExtraSaveShares()
+	{
+		GasNetwork network = getTransmitter().getTransmitterNetwork();
+		List<GasStack> ret = new ArrayList<>();
+		boolean first = network.transmitters.iterator().next().equals(getTransmitter());
+
+		for(GasStack extra : network.extraBuffers)
+		{
+			int toSave = extra.amount/network.transmitters.size();
+
+			if(first)
+			{
+				toSave += extra.amount%network.transmitters.size();
+			}
+
+			if(toSave > 0)
+			{
+				ret.add(new GasStack(extra.getGas(), toSave));
+			}
+		}
+
+		return ret;
+	}
+
+	private static boolean sharesEqual(List<GasStack> shares, List<GasStack> other)
+	{
+		if(shares.size() != other.size())
+		{
+			return false;
+		}
+
+		for(int i = 0; i < shares.size(); i++)
+		{
+			if(shares.get(i).getGas() != other.get(i).getGas() || shares.get(i).amount != other.get(i).amount)
+			{
+				return false;
+			}
+		}
+
+		return true;
+	}
+
 	@Override
 	public void onChunkUnload()
 	{
@@ -136,6 +198,18 @@ public class TileEntityPressurizedTube extends TileEntityTransmitter<IGasHandler
 					getTransmitter().getTransmitterNetwork().buffer = null;
 				}
 			}
+
+			for(GasStack share : lastExtraWrites)
+			{
+				GasStack extra = getTransmitter().getTransmitterNetwork().getExtraBuffer(share.getGas());
+
+				if(extra != null)
+				{
+					extra.amount -= share.amount;
+				}
+			}
+
+			getTransmitter().getTransmitterNetwork().extraBuffers.removeIf(extra -> extra.amount <= 0);
 		}
 
 		super.onChunkUnload();
@@ -156,6 +230,20 @@ public class TileEntityPressurizedTube extends TileEntityTransmitter<IGasHandler
         else {
             buffer.setGas(null);
         }
+
+		extraBuffer.clear();
+
+		NBTTagList extraList = nbtTags.getTagList("cacheGasExtra", NBT.TAG_COMPOUND);
+
+		for(int i = 0; i < extraList.tagCount(); i++)
+		{
+			GasStack extra = GasStack.readFromNBT(extraList.getCompoundTagAt(i));
+
+			if(extra != null)
+			{
+				extraBuffer.add(extra);
+			}
+		}
 	}
 
 	@Override
@@ -171,6 +259,21 @@ public class TileEntityPressurizedTube extends TileEntityTransmitter<IGasHandler
             nbtTags.removeTag("cacheGas");
 		}
 
+		if(!lastExtraWrites.isEmpty())
+		{
+			NBTTagList extraList = new NBTTagList();
+
+			for(GasStack share : lastExtraWrites)
+			{
+				extraList.appendTag(share.write(new NBTTagCompound()));
+			}
+
+			nbtTags.setTag("cacheGasExtra", extraList);
+		}
+		else {
+			nbtTags.removeTag("cacheGasExtra");
+		}
+
         nbtTags.setInteger("tier", tier.ordinal());
         
         return nbtTags;
@@ -226,6 +329,20 @@ public class TileEntityPressurizedTube extends TileEntityTransmitter<IGasHandler
             getTransmitter().getTransmitterNetwork().buffer.amount -= lastWrite.amount;
             buffer.setGas(lastWrite);
         }
+
+        if(getTransmitter().hasTransmitterNetwork())
+        {
+            for(GasStack share : lastExtraWrites)
+            {
+                GasStack extra = getTransmitter().getTransmitterNetwork().getExtraBuffer(share.getGas());
+
+                if(extra != null)
+                {
+                    extra.amount -= share.amount;
+                    extraBuffer.add(share.copy());
+                }
+            }
+        }
     }
 
 	@Override
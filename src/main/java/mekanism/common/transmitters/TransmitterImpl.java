@@ -92,6 +92,14 @@ public class TransmitterImpl<A, N extends DynamicNetwork<A,N>> extends Transmitt
 
 	@Override
 	public N getExternalNetwork(Coord4D from)
+	{
+		IGridTransmitter<A, N> transmitter = getExternalTransmitter(from);
+		
+		return transmitter != null ? transmitter.getTransmitterNetwork() : null;
+	}
+
+	@Override
+	public IGridTransmitter<A, N> getExternalTransmitter(Coord4D from)
 	{
 		TileEntity tile = from.getTileEntity(world());
 		
@@ -101,7 +109,7 @@ public class TransmitterImpl<A, N extends DynamicNetwork<A,N>> extends Transmitt
 			
 			if(TransmissionType.checkTransmissionType(transmitter, getTransmissionType()))
 			{
-				return ((IGridTransmitter<A, N>)transmitter).getTransmitterNetwork();
+				return (IGridTransmitter<A, N>)transmitter;
 			}
 		}
 		
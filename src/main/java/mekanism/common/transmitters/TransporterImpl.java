@@ -126,6 +126,11 @@ public class TransporterImpl extends TransmitterImpl<TileEntity, InventoryNetwor
 										needsSync.add(stack);
 										stack.itemStack = response.getRejected(stack.itemStack);
 
+										if(hasTransmitterNetwork())
+										{
+											getTransmitterNetwork().onDestinationChanged(next);
+										}
+
 										prevSet = next;
 									}
 								}
@@ -200,16 +205,20 @@ public class TransporterImpl extends TransmitterImpl<TileEntity, InventoryNetwor
 
 			for(TransporterStack stack : remove)
 			{
-				Mekanism.packetHandler.sendToReceivers(new TileEntityMessage(coord(), getTileEntity().getSyncPacket(stack, true)), new Range4D(coord()));
+				sendSync(stack, true);
 				transit.remove(stack);
-				MekanismUtils.saveChunk(getTileEntity());
+			}
+
+			if(!remove.isEmpty())
+			{
+				markChunkDirty();
 			}
 
 			for(TransporterStack stack : needsSync)
 			{
 				if(transit.contains(stack))
 				{
-					Mekanism.packetHandler.sendToReceivers(new TileEntityMessage(coord(), getTileEntity().getSyncPacket(stack, false)), new Range4D(coord()));
+					sendSync(stack, false);
 				}
 			}
 
@@ -286,8 +295,8 @@ public class TransporterImpl extends TransmitterImpl<TileEntity, InventoryNetwor
 			if(doEmit)
 			{
 				transit.add(stack);
-				Mekanism.packetHandler.sendToReceivers(new TileEntityMessage(coord(), getTileEntity().getSyncPacket(stack, false)), new Range4D(coord()));
-				MekanismUtils.saveChunk(getTileEntity());
+				sendSync(stack, false);
+				markChunkDirty();
 			}
 
 			return response;
@@ -320,8 +329,8 @@ public class TransporterImpl extends TransmitterImpl<TileEntity, InventoryNetwor
 			if(doEmit)
 			{
 				transit.add(stack);
-				Mekanism.packetHandler.sendToReceivers(new TileEntityMessage(coord(), getTileEntity().getSyncPacket(stack, false)), new Range4D(coord()));
-				MekanismUtils.saveChunk(getTileEntity());
+				sendSync(stack, false);
+				markChunkDirty();
 			}
 			
 			return response;
@@ -335,8 +344,33 @@ public class TransporterImpl extends TransmitterImpl<TileEntity, InventoryNetwor
 	{
 		stack.progress = progress;
 		transit.add(stack);
-		Mekanism.packetHandler.sendToReceivers(new TileEntityMessage(coord(), getTileEntity().getSyncPacket(stack, false)), new Range4D(coord()));
-		MekanismUtils.saveChunk(getTileEntity());
+		sendSync(stack, false);
+		markChunkDirty();
+	}
+
+	/**
+	 * Sends a stack's update to clients, batched with the rest of the network's updates this tick when possible.
+	 */
+	private void sendSync(TransporterStack stack, boolean kill)
+	{
+		if(getTransmitterNetwork() != null)
+		{
+			getTransmitterNetwork().queueSync(coord(), getTileEntity().getSyncPacket(stack, kill));
+		}
+		else {
+			Mekanism.packetHandler.sendToReceivers(new TileEntityMessage(coord(), getTileEntity().getSyncPacket(stack, kill)), new Range4D(coord()));
+		}
+	}
+
+	private void markChunkDirty()
+	{
+		if(getTransmitterNetwork() != null)
+		{
+			getTransmitterNetwork().queueSave(getTileEntity());
+		}
+		else {
+			MekanismUtils.saveChunk(getTileEntity());
+		}
 	}
 
 	@Override
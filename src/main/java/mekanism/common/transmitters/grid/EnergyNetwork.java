@@ -1,11 +1,10 @@
 package mekanism.common.transmitters.grid;
 
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.EnumSet;
 import java.util.HashSet;
-import java.util.List;
+import java.util.Random;
 import java.util.Set;
 
 import mekanism.api.Coord4D;
@@ -13,6 +12,8 @@ import mekanism.api.energy.EnergyStack;
 import mekanism.api.transmitters.DynamicNetwork;
 import mekanism.api.transmitters.IGridTransmitter;
 import mekanism.common.base.EnergyAcceptorWrapper;
+import mekanism.common.config.MekanismConfig.general;
+import mekanism.common.util.CableUtils;
 import mekanism.common.util.MekanismUtils;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.EnumFacing;
@@ -32,6 +33,25 @@ public class EnergyNetwork extends DynamicNetwork<EnergyAcceptorWrapper, EnergyN
 
 	public EnergyStack buffer = new EnergyStack(0);
 
+	/** How many ticks to wait before retrying acceptors that were in unloaded chunks. */
+	private static final int UNRESOLVED_RETRY_DELAY = 20;
+
+	private boolean acceptorsDirty = true;
+	private boolean hasUnresolvedAcceptors = false;
+	private int unresolvedRetryDelay = 0;
+
+	private int acceptorCount = 0;
+	private TileEntity[] acceptorTiles = new TileEntity[0];
+	private int[] acceptorOffsets = new int[1];
+	private EnergyAcceptorWrapper[] acceptorWrappers = new EnergyAcceptorWrapper[0];
+	private EnumFacing[] acceptorSides = new EnumFacing[0];
+
+	private int[] emitOrder = new int[0];
+	private int[] emitEntries = new int[0];
+	private double[] demands = new double[0];
+	private double[] sortedDemands = new double[0];
+	private Random random = new Random();
+
 	public EnergyNetwork() {}
 
 	public EnergyNetwork(Collection<EnergyNetwork> networks)
@@ -117,17 +137,24 @@ public class EnergyNetwork extends DynamicNetwork<EnergyAcceptorWrapper, EnergyN
 		}
 
 		double sent = 0;
-		boolean tryAgain;
-		int i = 0;
 
-		do {
-			double prev = sent;
-			sent += doEmit(energyToSend-sent);
+		if(general.proportionalEnergyDistribution)
+		{
+			sent = distributeEmit(energyToSend);
+		}
+		else {
+			boolean tryAgain;
+			int i = 0;
 
-			tryAgain = energyToSend-sent > 0 && sent-prev > 0 && i < 100;
+			do {
+				double prev = sent;
+				sent += doEmit(energyToSend-sent);
 
-			i++;
-		} while(tryAgain);
+				tryAgain = energyToSend-sent > 0 && sent-prev > 0 && i < 100;
+
+				i++;
+			} while(tryAgain);
+		}
 
 		joulesTransmitted = sent;
 		
@@ -153,33 +180,27 @@ public class EnergyNetwork extends DynamicNetwork<EnergyAcceptorWrapper, EnergyN
 	{
 		double sent = 0;
 
-		List<Pair<Coord4D, EnergyAcceptorWrapper>> availableAcceptors = new ArrayList<>();
-		availableAcceptors.addAll(getAcceptors(null));
+		int divider = collectAcceptors();
 
-		Collections.shuffle(availableAcceptors);
-
-		if(!availableAcceptors.isEmpty())
+		if(divider > 0)
 		{
-			int divider = availableAcceptors.size();
+			shuffleAcceptors(divider);
+
 			double remaining = energyToSend % divider;
 			double sending = (energyToSend-remaining)/divider;
 
-			for(Pair<Coord4D, EnergyAcceptorWrapper> pair : availableAcceptors)
+			for(int i = 0; i < divider; i++)
 			{
-				EnergyAcceptorWrapper acceptor = pair.getRight();
+				int acceptor = emitOrder[i];
 				double currentSending = sending+remaining;
-				EnumSet<EnumFacing> sides = acceptorDirections.get(pair.getLeft());
+				int first = emitEntries[acceptor];
+				int last = acceptorOffsets[acceptor+1];
 
-				if(sides == null || sides.isEmpty())
-				{
-					continue;
-				}
-
-				for(EnumFacing side : sides)
+				for(int entry = first; entry < last; entry++)
 				{
 					double prev = sent;
 
-					sent += acceptor.acceptEnergy(side, currentSending, false);
+					sent += acceptorWrappers[entry].acceptEnergy(acceptorSides[entry], currentSending, false);
 
 					if(sent > prev)
 					{
@@ -192,6 +213,45 @@ public class EnergyNetwork extends DynamicNetwork<EnergyAcceptorWrapper, EnergyN
 		return sent;
 	}
 
+	/**
+	 * Asks every acceptor how much it wants once, then shares the energy out by water-filling: acceptors that want
+	 * less than an even share are filled completely, and whatever they leave is split evenly among the rest. Only the
+	 * first side of each acceptor that needs energy is used, and acceptors that limit what they take per call (such as
+	 * IC2 sinks or RF's int range) get one large offer instead of several small ones, so this can send less than
+	 * repeating doEmit would.
+	 * @return sent
+	 */
+	public double distributeEmit(double energyToSend)
+	{
+		double sent = 0;
+
+		int count = collectAcceptors();
+
+		if(count > 0)
+		{
+			for(int i = 0; i < count; i++)
+			{
+				int entry = emitEntries[emitOrder[i]];
+				demands[i] = Math.max(0, acceptorWrappers[entry].acceptEnergy(acceptorSides[entry], energyToSend, true));
+			}
+
+			double level = CableUtils.getFillLevel(demands, sortedDemands, count, energyToSend);
+
+			for(int i = 0; i < count; i++)
+			{
+				double toSend = Math.min(demands[i], level);
+
+				if(toSend > 0)
+				{
+					int entry = emitEntries[emitOrder[i]];
+					sent += acceptorWrappers[entry].acceptEnergy(acceptorSides[entry], toSend, false);
+				}
+			}
+		}
+
+		return sent;
+	}
+
 	@Override
 	public Set<Pair<Coord4D, EnergyAcceptorWrapper>> getAcceptors(Object data)
 	{
@@ -202,6 +262,105 @@ public class EnergyNetwork extends DynamicNetwork<EnergyAcceptorWrapper, EnergyN
 			return toReturn;
 		}
 
+		int count = collectAcceptors();
+
+		for(int i = 0; i < count; i++)
+		{
+			EnergyAcceptorWrapper acceptor = acceptorWrappers[emitEntries[emitOrder[i]]];
+			toReturn.add(Pair.of(acceptor.coord, acceptor));
+		}
+
+		return toReturn;
+	}
+
+	/**
+	 * Fills emitOrder with the cached acceptors that currently want energy, and emitEntries with the side each
+	 * of them should be offered energy on first.
+	 * @return amount of acceptors that want energy
+	 */
+	private int collectAcceptors()
+	{
+		if(FMLCommonHandler.instance().getEffectiveSide().isClient())
+		{
+			return 0;
+		}
+
+		if(acceptorsDirty)
+		{
+			refreshAcceptorCache();
+		}
+
+		int count = 0;
+
+		for(int acceptor = 0; acceptor < acceptorCount; acceptor++)
+		{
+			if(acceptorTiles[acceptor].isInvalid())
+			{
+				acceptorsDirty = true;
+				continue;
+			}
+
+			for(int entry = acceptorOffsets[acceptor]; entry < acceptorOffsets[acceptor+1]; entry++)
+			{
+				EnergyAcceptorWrapper wrapper = acceptorWrappers[entry];
+				EnumFacing side = acceptorSides[entry];
+
+				if(wrapper.canReceiveEnergy(side) && wrapper.needsEnergy(side))
+				{
+					emitOrder[count++] = acceptor;
+					emitEntries[acceptor] = entry;
+					break;
+				}
+			}
+		}
+
+		return count;
+	}
+
+	private void shuffleAcceptors(int count)
+	{
+		for(int i = count-1; i > 0; i--)
+		{
+			int swap = random.nextInt(i+1);
+			int temp = emitOrder[i];
+			emitOrder[i] = emitOrder[swap];
+			emitOrder[swap] = temp;
+		}
+	}
+
+	/**
+	 * Resolves every acceptor side of this network into a wrapper once, so that emitting only has to walk the
+	 * cached arrays. Rebuilt whenever the network's acceptors change.
+	 */
+	private void refreshAcceptorCache()
+	{
+		int maxAcceptors = possibleAcceptors.size();
+		int maxEntries = maxAcceptors*EnumFacing.VALUES.length;
+
+		if(acceptorTiles.length < maxAcceptors)
+		{
+			acceptorTiles = new TileEntity[maxAcceptors];
+			acceptorOffsets = new int[maxAcceptors+1];
+			emitOrder = new int[maxAcceptors];
+			emitEntries = new int[maxAcceptors];
+			demands = new double[maxAcceptors];
+			sortedDemands = new double[maxAcceptors];
+		}
+
+		if(acceptorWrappers.length < maxEntries)
+		{
+			acceptorWrappers = new EnergyAcceptorWrapper[maxEntries];
+			acceptorSides = new EnumFacing[maxEntries];
+		}
+
+		Arrays.fill(acceptorTiles, null);
+		Arrays.fill(acceptorWrappers, null);
+
+		acceptorCount = 0;
+		hasUnresolvedAcceptors = false;
+
+		int entries = 0;
+
 		for(Coord4D coord : possibleAcceptors.keySet())
 		{
 			EnumSet<EnumFacing> sides = acceptorDirections.get(coord);
@@ -211,24 +370,67 @@ public class EnergyNetwork extends DynamicNetwork<EnergyAcceptorWrapper, EnergyN
 				continue;
 			}
 
-			TileEntity tile = coord.getTileEntity(getWorld());
+			TileEntity tile = getAcceptorTile(coord);
+
+			if(tile == null)
+			{
+				hasUnresolvedAcceptors = true;
+				continue;
+			}
+
+			int first = entries;
 
 			for(EnumFacing side : sides)
 			{
-				EnergyAcceptorWrapper acceptor = EnergyAcceptorWrapper.get(tile, side);
-				
+				EnergyAcceptorWrapper acceptor = getAcceptor(tile, side);
+
 				if(acceptor != null)
 				{
-					if(acceptor.canReceiveEnergy(side) && acceptor.needsEnergy(side))
-					{
-						toReturn.add(Pair.of(coord, acceptor));
-						break;
-					}
+					acceptorWrappers[entries] = acceptor;
+					acceptorSides[entries] = side;
+					entries++;
 				}
 			}
+
+			if(entries > first)
+			{
+				acceptorTiles[acceptorCount] = tile;
+				acceptorOffsets[acceptorCount] = first;
+				acceptorCount++;
+			}
 		}
 
-		return toReturn;
+		acceptorOffsets[acceptorCount] = entries;
+		acceptorsDirty = false;
+		unresolvedRetryDelay = UNRESOLVED_RETRY_DELAY;
+	}
+
+	/** Looks up the tile at an acceptor's coordinate. Benchmarks override this to run without a world. */
+	TileEntity getAcceptorTile(Coord4D coord)
+	{
+		return coord.getTileEntity(getWorld());
+	}
+
+	/** Wraps one side of an acceptor. Benchmarks override this to run without a world. */
+	EnergyAcceptorWrapper getAcceptor(TileEntity tile, EnumFacing side)
+	{
+		return EnergyAcceptorWrapper.get(tile, side);
+	}
+
+	@Override
+	public void updateTransmitterOnSide(IGridTransmitter<EnergyAcceptorWrapper, EnergyNetwork> transmitter, EnumFacing side)
+	{
+		super.updateTransmitterOnSide(transmitter, side);
+
+		acceptorsDirty = true;
+	}
+
+	@Override
+	public void removeTransmitter(IGridTransmitter<EnergyAcceptorWrapper, EnergyNetwork> transmitter)
+	{
+		super.removeTransmitter(transmitter);
+
+		acceptorsDirty = true;
 	}
 
 	public static class EnergyTransferEvent extends Event
@@ -273,6 +475,11 @@ public class EnergyNetwork extends DynamicNetwork<EnergyAcceptorWrapper, EnergyN
 				needsUpdate = false;
 			}
 
+			if(hasUnresolvedAcceptors && --unresolvedRetryDelay <= 0)
+			{
+				acceptorsDirty = true;
+			}
+
 			if(buffer.amount > 0)
 			{
 				buffer.amount -= tickEmit(buffer.amount);
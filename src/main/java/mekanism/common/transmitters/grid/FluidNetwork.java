@@ -12,6 +12,9 @@ import mekanism.api.Coord4D;
 import mekanism.api.transmitters.DynamicNetwork;
 import mekanism.api.transmitters.IGridTransmitter;
 import mekanism.common.Mekanism;
+import mekanism.common.config.MekanismConfig.general;
+import mekanism.common.tile.transmitter.TileEntityMechanicalPipe;
+import mekanism.common.transmitters.TransmitterImpl;
 import mekanism.common.util.CapabilityUtils;
 import mekanism.common.util.LangUtils;
 import mekanism.common.util.PipeUtils;
@@ -39,8 +42,18 @@ public class FluidNetwork extends DynamicNetwork<IFluidHandler, FluidNetwork>
 	public Fluid refFluid;
 
 	public FluidStack buffer;
+
+	/** Fluids of other types than the buffer's, when networks may carry several. These share the network's capacity. */
+	public List<FluidStack> extraBuffers = new ArrayList<>();
+
 	public int prevStored;
 
+	/** Which of the buffers emits first on the next tick, when types take turns. */
+	private int nextBuffer = 0;
+
+	/** Reused every tick to hold the buffers while they're emitted. */
+	private List<FluidStack> emitting = new ArrayList<>();
+
 	public int prevTransferAmount = 0;
 
 	public FluidNetwork() {}
@@ -53,25 +66,21 @@ public class FluidNetwork extends DynamicNetwork<IFluidHandler, FluidNetwork>
 			{
 				if(net.buffer != null)
 				{
-					if(buffer == null)
+					if(!absorb(net.buffer) && net.buffer.amount > buffer.amount)
 					{
 						buffer = net.buffer.copy();
 					}
-					else {
-						if(buffer.getFluid() == net.buffer.getFluid())
-						{
-							buffer.amount += net.buffer.amount;
-						}
-						else if(net.buffer.amount > buffer.amount)
-						{
-							buffer = net.buffer.copy();
-						}
-
-					}
 
 					net.buffer = null;
 				}
 
+				for(FluidStack extra : net.extraBuffers)
+				{
+					absorb(extra);
+				}
+
+				net.extraBuffers.clear();
+
 				adoptTransmittersAndAcceptorsFrom(net);
 				net.deregister();
 			}
@@ -87,36 +96,117 @@ public class FluidNetwork extends DynamicNetwork<IFluidHandler, FluidNetwork>
 	{
 		Object b = transmitter.getBuffer();
 
-		if(!(b instanceof FluidStack) || ((FluidStack)b).getFluid() == null || ((FluidStack)b).amount == 0)
+		if(b instanceof FluidStack && ((FluidStack)b).getFluid() != null && ((FluidStack)b).amount > 0)
+		{
+			FluidStack fluid = (FluidStack)b;
+
+			absorb(fluid);
+			fluid.amount = 0;
+		}
+
+		if(transmitter instanceof TransmitterImpl && ((TransmitterImpl)transmitter).getTileEntity() instanceof TileEntityMechanicalPipe)
 		{
-			return;
+			TileEntityMechanicalPipe pipe = (TileEntityMechanicalPipe)((TransmitterImpl)transmitter).getTileEntity();
+
+			for(FluidStack extra : pipe.extraBuffer)
+			{
+				absorb(extra);
+			}
+
+			pipe.extraBuffer.clear();
 		}
+	}
 
-		FluidStack fluid = (FluidStack)b;
+	/**
+	 * Adds the fluid to the buffer of its type, if the network can hold it.
+	 * @param fluid - fluid to add, which is copied and left as is
+	 * @return false if it's a different type than the buffer's and networks can't carry several types
+	 */
+	private boolean absorb(FluidStack fluid)
+	{
+		if(fluid.getFluid() == null || fluid.amount <= 0)
+		{
+			return true;
+		}
 
 		if(buffer == null || buffer.getFluid() == null || buffer.amount == 0)
 		{
 			buffer = fluid.copy();
-            fluid.amount = 0;
-			return;
+			return true;
 		}
-		
-		//TODO better multiple buffer impl
+
 		if(buffer.isFluidEqual(fluid))
 		{
 			buffer.amount += fluid.amount;
+			return true;
 		}
 
-        fluid.amount = 0;
+		if(!general.multiTypeNetworks)
+		{
+			return false;
+		}
+
+		FluidStack extra = getExtraBuffer(fluid);
+
+		if(extra != null)
+		{
+			extra.amount += fluid.amount;
+		}
+		else {
+			extraBuffers.add(fluid.copy());
+		}
+
+		return true;
+	}
+
+	public FluidStack getExtraBuffer(FluidStack type)
+	{
+		for(FluidStack extra : extraBuffers)
+		{
+			if(extra.isFluidEqual(type))
+			{
+				return extra;
+			}
+		}
+
+		return null;
 	}
 
 	@Override
 	public void clampBuffer()
 	{
-		if(buffer != null && buffer.amount > getCapacity())
+		int excess = getStored()-getCapacity();
+
+		for(int i = extraBuffers.size()-1; i >= 0 && excess > 0; i--)
 		{
-			buffer.amount = capacity;
+			FluidStack extra = extraBuffers.get(i);
+			int removed = Math.min(extra.amount, excess);
+
+			extra.amount -= removed;
+			excess -= removed;
+
+			if(extra.amount <= 0)
+			{
+				extraBuffers.remove(i);
+			}
 		}
+
+		if(buffer != null && excess > 0)
+		{
+			buffer.amount -= excess;
+		}
+	}
+
+	public int getStored()
+	{
+		int stored = buffer != null ? buffer.amount : 0;
+
+		for(FluidStack extra : extraBuffers)
+		{
+			stored += extra.amount;
+		}
+
+		return stored;
 	}
 
 	@Override
@@ -135,7 +225,7 @@ public class FluidNetwork extends DynamicNetwork<IFluidHandler, FluidNetwork>
 
 	public int getFluidNeeded()
 	{
-		return getCapacity()-(buffer != null ? buffer.amount : 0);
+		return getCapacity()-getStored();
 	}
 
 	public int tickEmit(FluidStack fluidToSend, boolean doTransfer)
@@ -202,7 +292,7 @@ public class FluidNetwork extends DynamicNetwork<IFluidHandler, FluidNetwork>
 
 	public int emit(FluidStack fluidToSend, boolean doTransfer)
 	{
-		if(fluidToSend == null || (buffer != null && buffer.getFluid() != fluidToSend.getFluid()))
+		if(fluidToSend == null || (buffer != null && !buffer.isFluidEqual(fluidToSend) && !general.multiTypeNetworks))
 		{
 			return 0;
 		}
@@ -216,14 +306,68 @@ public class FluidNetwork extends DynamicNetwork<IFluidHandler, FluidNetwork>
 				buffer = fluidToSend.copy();
 				buffer.amount = toUse;
 			}
-			else {
+			else if(buffer.isFluidEqual(fluidToSend))
+			{
 				buffer.amount += toUse;
 			}
+			else if(toUse > 0)
+			{
+				FluidStack extra = getExtraBuffer(fluidToSend);
+
+				if(extra == null)
+				{
+					extra = PipeUtils.copy(fluidToSend, 0);
+					extraBuffers.add(extra);
+				}
+
+				extra.amount += toUse;
+			}
 		}
 
 		return toUse;
 	}
 
+	/**
+	 * Emits each of the buffers and drops the ones that ran out. With fair scheduling the type that goes first changes
+	 * every tick; otherwise the main buffer always goes first, then the others in the order they entered the network.
+	 * @return total amount sent
+	 */
+	private int emitBuffers()
+	{
+		if((buffer == null || buffer.amount <= 0) && !extraBuffers.isEmpty())
+		{
+			buffer = extraBuffers.remove(0);
+		}
+
+		List<FluidStack> buffers = emitting;
+		buffers.clear();
+		buffers.add(buffer);
+		buffers.addAll(extraBuffers);
+
+		int start = general.fairTypeScheduling ? nextBuffer % buffers.size() : 0;
+		int sent = 0;
+
+		nextBuffer = start+1;
+
+		for(int i = 0; i < buffers.size(); i++)
+		{
+			FluidStack stack = buffers.get((start+i) % buffers.size());
+			int stackSent = tickEmit(stack, true);
+
+			stack.amount -= stackSent;
+			sent += stackSent;
+		}
+
+		extraBuffers.removeIf(extra -> extra.amount <= 0);
+
+		if(buffer != null && buffer.amount <= 0)
+		{
+			buffer = extraBuffers.isEmpty() ? null : extraBuffers.remove(0);
+		}
+
+		return sent;
+	}
+
 	@Override
 	public void onUpdate()
 	{
@@ -241,7 +385,7 @@ public class FluidNetwork extends DynamicNetwork<IFluidHandler, FluidNetwork>
 				transferDelay--;
 			}
 
-			int stored = buffer != null ? buffer.amount : 0;
+			int stored = getStored();
 
 			if(stored != prevStored)
 			{
@@ -258,19 +402,9 @@ public class FluidNetwork extends DynamicNetwork<IFluidHandler, FluidNetwork>
 
 			prevTransfer = didTransfer;
 
-			if(buffer != null)
+			if(buffer != null || !extraBuffers.isEmpty())
 			{
-				prevTransferAmount = tickEmit(buffer, true);
-				
-				if(buffer != null)
-				{
-					buffer.amount -= prevTransferAmount;
-
-					if(buffer.amount <= 0)
-					{
-						buffer = null;
-					}
-				}
+				prevTransferAmount = emitBuffers();
 			}
 		}
 	}
@@ -373,7 +507,19 @@ public class FluidNetwork extends DynamicNetwork<IFluidHandler, FluidNetwork>
 	@Override
 	public String getStoredInfo()
 	{
-		return buffer != null ? LangUtils.localizeFluidStack(buffer) + " (" + buffer.amount + " mB)" : "None";
+		if(buffer == null)
+		{
+			return "None";
+		}
+
+		String info = LangUtils.localizeFluidStack(buffer) + " (" + buffer.amount + " mB)";
+
+		for(FluidStack extra : extraBuffers)
+		{
+			info += ", " + LangUtils.localizeFluidStack(extra) + " (" + extra.amount + " mB)";
+		}
+
+		return info;
 	}
 
 	@Override
@@ -1,5 +1,6 @@
 package mekanism.common.transmitters.grid;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.EnumSet;
@@ -14,6 +15,9 @@ import mekanism.api.gas.IGasHandler;
 import mekanism.api.transmitters.DynamicNetwork;
 import mekanism.api.transmitters.IGridTransmitter;
 import mekanism.common.capabilities.Capabilities;
+import mekanism.common.config.MekanismConfig.general;
+import mekanism.common.tile.transmitter.TileEntityPressurizedTube;
+import mekanism.common.transmitters.TransmitterImpl;
 import mekanism.common.util.CapabilityUtils;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.EnumFacing;
@@ -43,8 +47,18 @@ public class GasNetwork extends DynamicNetwork<IGasHandler, GasNetwork>
 	public Gas refGas;
 
 	public GasStack buffer;
+
+	/** Gases of other types than the buffer's, when networks may carry several. These share the network's capacity. */
+	public List<GasStack> extraBuffers = new ArrayList<>();
+
 	public int prevStored;
 
+	/** Which of the buffers emits first on the next tick, when types take turns. */
+	private int nextBuffer = 0;
+
+	/** Reused every tick to hold the buffers while they're emitted. */
+	private List<GasStack> emitting = new ArrayList<>();
+
 	public int prevTransferAmount = 0;
 
 	public GasNetwork() {}
@@ -71,24 +85,20 @@ public class GasNetwork extends DynamicNetwork<IGasHandler, GasNetwork>
 				else {
 					if(net.buffer != null)
 					{
-						if(buffer == null)
+						if(!absorb(net.buffer) && net.buffer.amount > buffer.amount)
 						{
 							buffer = net.buffer.copy();
-						} 
-						else {
-							if(buffer.isGasEqual(net.buffer))
-							{
-								buffer.amount += net.buffer.amount;
-							}
-							else if(net.buffer.amount > buffer.amount)
-							{
-								buffer = net.buffer.copy();
-							}
-
 						}
 
 						net.buffer = null;
 					}
+
+					for(GasStack extra : net.extraBuffers)
+					{
+						absorb(extra);
+					}
+
+					net.extraBuffers.clear();
 				}
 
 				adoptTransmittersAndAcceptorsFrom(net);
@@ -106,41 +116,122 @@ public class GasNetwork extends DynamicNetwork<IGasHandler, GasNetwork>
 	{
 		Object b = transmitter.getBuffer();
 		
-		if(!(b instanceof GasStack) || ((GasStack)b).getGas() == null || ((GasStack)b).amount == 0)
+		if(b instanceof GasStack && ((GasStack)b).getGas() != null && ((GasStack)b).amount > 0)
 		{
-			return;
+			GasStack gas = (GasStack)b;
+
+			absorb(gas);
+			gas.amount = 0;
 		}
 
-		GasStack gas = (GasStack)b;
+		if(transmitter instanceof TransmitterImpl && ((TransmitterImpl)transmitter).getTileEntity() instanceof TileEntityPressurizedTube)
+		{
+			TileEntityPressurizedTube tube = (TileEntityPressurizedTube)((TransmitterImpl)transmitter).getTileEntity();
+
+			for(GasStack extra : tube.extraBuffer)
+			{
+				absorb(extra);
+			}
+
+			tube.extraBuffer.clear();
+		}
+	}
+
+	/**
+	 * Adds the gas to the buffer of its type, if the network can hold it.
+	 * @param gas - gas to add, which is copied and left as is
+	 * @return false if it's a different type than the buffer's and networks can't carry several types
+	 */
+	private boolean absorb(GasStack gas)
+	{
+		if(gas.getGas() == null || gas.amount <= 0)
+		{
+			return true;
+		}
 
 		if(buffer == null || buffer.getGas() == null || buffer.amount == 0)
 		{
 			buffer = gas.copy();
-            gas.amount = 0;
-			return;
+			return true;
 		}
 
-		//TODO better multiple buffer impl
 		if(buffer.isGasEqual(gas))
 		{
 			buffer.amount += gas.amount;
+			return true;
 		}
-		
-		gas.amount = 0;
+
+		if(!general.multiTypeNetworks)
+		{
+			return false;
+		}
+
+		GasStack extra = getExtraBuffer(gas.getGas());
+
+		if(extra != null)
+		{
+			extra.amount += gas.amount;
+		}
+		else {
+			extraBuffers.add(gas.copy());
+		}
+
+		return true;
+	}
+
+	public GasStack getExtraBuffer(Gas type)
+	{
+		for(GasStack extra : extraBuffers)
+		{
+			if(extra.getGas() == type)
+			{
+				return extra;
+			}
+		}
+
+		return null;
 	}
 
 	@Override
 	public void clampBuffer()
 	{
-		if(buffer != null && buffer.amount > getCapacity())
+		int excess = getStored()-getCapacity();
+
+		for(int i = extraBuffers.size()-1; i >= 0 && excess > 0; i--)
+		{
+			GasStack extra = extraBuffers.get(i);
+			int removed = Math.min(extra.amount, excess);
+
+			extra.amount -= removed;
+			excess -= removed;
+
+			if(extra.amount <= 0)
+			{
+				extraBuffers.remove(i);
+			}
+		}
+
+		if(buffer != null && excess > 0)
+		{
+			buffer.amount -= excess;
+		}
+	}
+
+	public int getStored()
+	{
+		int stored = buffer != null ? buffer.amount : 0;
+
+		for(GasStack extra : extraBuffers)
 		{
-			buffer.amount = capacity;
+			stored += extra.amount;
 		}
+
+		return stored;
 	}
 
 	public int getGasNeeded()
 	{
-		return getCapacity()-(buffer != null ? buffer.amount : 0);
+		return getCapacity()-getStored();
 	}
 
 	public int tickEmit(GasStack stack)
@@ -199,7 +290,7 @@ public class GasNetwork extends DynamicNetwork<IGasHandler, GasNetwork>
 
 	public int emit(GasStack stack, boolean doTransfer)
 	{
-		if(buffer != null && buffer.getGas() != stack.getGas())
+		if(buffer != null && buffer.getGas() != stack.getGas() && !general.multiTypeNetworks)
 		{
 			return 0;
 		}
@@ -213,14 +304,68 @@ public class GasNetwork extends DynamicNetwork<IGasHandler, GasNetwork>
 				buffer = stack.copy();
 				buffer.amount = toUse;
 			}
-			else {
+			else if(buffer.getGas() == stack.getGas())
+			{
 				buffer.amount += toUse;
 			}
+			else if(toUse > 0)
+			{
+				GasStack extra = getExtraBuffer(stack.getGas());
+
+				if(extra == null)
+				{
+					extra = new GasStack(stack.getGas(), 0);
+					extraBuffers.add(extra);
+				}
+
+				extra.amount += toUse;
+			}
 		}
 
 		return toUse;
 	}
 
+	/**
+	 * Emits each of the buffers and drops the ones that ran out. With fair scheduling the type that goes first changes
+	 * every tick; otherwise the main buffer always goes first, then the others in the order they entered the network.
+	 * @return total amount sent
+	 */
+	int emitBuffers()
+	{
+		if((buffer == null || buffer.amount <= 0) && !extraBuffers.isEmpty())
+		{
+			buffer = extraBuffers.remove(0);
+		}
+
+		List<GasStack> buffers = emitting;
+		buffers.clear();
+		buffers.add(buffer);
+		buffers.addAll(extraBuffers);
+
+		int start = general.fairTypeScheduling ? nextBuffer % buffers.size() : 0;
+		int sent = 0;
+
+		nextBuffer = start+1;
+
+		for(int i = 0; i < buffers.size(); i++)
+		{
+			GasStack stack = buffers.get((start+i) % buffers.size());
+			int stackSent = tickEmit(stack);
+
+			stack.amount -= stackSent;
+			sent += stackSent;
+		}
+
+		extraBuffers.removeIf(extra -> extra.amount <= 0);
+
+		if(buffer != null && buffer.amount <= 0)
+		{
+			buffer = extraBuffers.isEmpty() ? null : extraBuffers.remove(0);
+		}
+
+		return sent;
+	}
+
 	@Override
 	public void onUpdate()
 	{
@@ -238,7 +383,7 @@ public class GasNetwork extends DynamicNetwork<IGasHandler, GasNetwork>
 				transferDelay--;
 			}
 
-			int stored = buffer != null ? buffer.amount : 0;
+			int stored = getStored();
 
 			if(stored != prevStored)
 			{
@@ -255,15 +400,9 @@ public class GasNetwork extends DynamicNetwork<IGasHandler, GasNetwork>
 
 			prevTransfer = didTransfer;
 
-			if(buffer != null)
+			if(buffer != null || !extraBuffers.isEmpty())
 			{
-				prevTransferAmount = tickEmit(buffer);
-				buffer.amount -= prevTransferAmount;
-
-				if(buffer.amount <= 0)
-				{
-					buffer = null;
-				}
+				prevTransferAmount = emitBuffers();
 			}
 		}
 	}
@@ -366,7 +505,19 @@ public class GasNetwork extends DynamicNetwork<IGasHandler, GasNetwork>
 	@Override
 	public String getStoredInfo()
 	{
-		return buffer != null ? buffer.getGas().getLocalizedName() + " (" + buffer.amount + ")" : "None";
+		if(buffer == null)
+		{
+			return "None";
+		}
+
+		String info = buffer.getGas().getLocalizedName() + " (" + buffer.amount + ")";
+
+		for(GasStack extra : extraBuffers)
+		{
+			info += ", " + extra.getGas().getLocalizedName() + " (" + extra.amount + ")";
+		}
+
+		return info;
 	}
 
 	@Override
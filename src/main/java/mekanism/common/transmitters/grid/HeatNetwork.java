@@ -1,17 +1,27 @@
 package mekanism.common.transmitters.grid;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import mekanism.api.Coord4D;
 import mekanism.api.IHeatTransfer;
 import mekanism.api.transmitters.DynamicNetwork;
 import mekanism.api.transmitters.IGridTransmitter;
+import mekanism.common.Tier.ConductorTier;
 import mekanism.common.capabilities.Capabilities;
+import mekanism.common.tile.transmitter.TileEntitySidedPipe;
+import mekanism.common.tile.transmitter.TileEntityThermodynamicConductor;
 import mekanism.common.transmitters.TransmitterImpl;
 //import mekanism.common.multipart.MultipartTransmitter;
+import mekanism.common.util.CapabilityUtils;
 import mekanism.common.util.MekanismUtils;
 import mekanism.common.util.UnitDisplayUtils.TemperatureUnit;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.EnumFacing;
 import net.minecraftforge.fml.common.FMLCommonHandler;
 
 import org.apache.commons.lang3.tuple.Pair;
@@ -23,6 +33,28 @@ public class HeatNetwork extends DynamicNetwork<IHeatTransfer, HeatNetwork>
 	public double heatLost = 0;
 	public double heatTransferred = 0;
 
+	/** Neighbour index for a side with nothing connected, which loses heat to the air. */
+	private static final int AIR = -1;
+	/** Neighbour index for a side connected to something other than a conductor of this network. */
+	private static final int BOUNDARY = -2;
+
+	private boolean layoutDirty = true;
+
+	private TileEntityThermodynamicConductor[] conductors = new TileEntityThermodynamicConductor[0];
+	private ConductorTier[] tiers;
+	private byte[] connections;
+
+	private double[] temperatures;
+	private double[] heat;
+	private double[] invConduction;
+
+	/** Indexed by conductor*6 + side, like the arrays below. */
+	private double[] airInvConduction;
+	private int[] neighbours;
+	private IHeatTransfer[] boundary = new IHeatTransfer[0];
+	private TileEntity[] boundaryTiles = new TileEntity[0];
+	private boolean[] boundaryCounted;
+
 	public HeatNetwork() {}
 
 	public HeatNetwork(Collection<HeatNetwork> networks)
@@ -69,6 +101,149 @@ public class HeatNetwork extends DynamicNetwork<IHeatTransfer, HeatNetwork>
 		return null;
 	}
 
+	@Override
+	public void commit()
+	{
+		super.commit();
+
+		layoutDirty = true;
+	}
+
+	@Override
+	public void removeTransmitter(IGridTransmitter<IHeatTransfer, HeatNetwork> transmitter)
+	{
+		super.removeTransmitter(transmitter);
+
+		layoutDirty = true;
+	}
+
+	@Override
+	public void acceptorChanged(IGridTransmitter<IHeatTransfer, HeatNetwork> transmitter, EnumFacing side)
+	{
+		super.acceptorChanged(transmitter, side);
+
+		layoutDirty = true;
+	}
+
+	@Override
+	public void adoptTransmittersAndAcceptorsFrom(HeatNetwork net)
+	{
+		super.adoptTransmittersAndAcceptorsFrom(net);
+
+		layoutDirty = true;
+	}
+
+	@Override
+	public void deregister()
+	{
+		super.deregister();
+
+		conductors = new TileEntityThermodynamicConductor[0];
+		boundary = new IHeatTransfer[0];
+		boundaryTiles = new TileEntity[0];
+		layoutDirty = true;
+	}
+
+	/**
+	 * Rebuilds the arrays the simulation runs on from the current conductors and their connections. Neighbours that
+	 * are conductors of this network are stored by index; anything else is kept as a boundary acceptor.
+	 */
+	private void buildLayout()
+	{
+		List<TileEntityThermodynamicConductor> found = new ArrayList<>();
+		Map<TileEntity, Integer> indices = new IdentityHashMap<>();
+
+		for(IGridTransmitter<IHeatTransfer, HeatNetwork> transmitter : transmitters)
+		{
+			if(transmitter instanceof TransmitterImpl && ((TransmitterImpl)transmitter).getTileEntity() instanceof TileEntityThermodynamicConductor)
+			{
+				TileEntityThermodynamicConductor conductor = (TileEntityThermodynamicConductor)((TransmitterImpl)transmitter).getTileEntity();
+
+				indices.put(conductor, found.size());
+				found.add(conductor);
+			}
+		}
+
+		int size = found.size();
+
+		conductors = found.toArray(new TileEntityThermodynamicConductor[size]);
+		tiers = new ConductorTier[size];
+		connections = new byte[size];
+		temperatures = new double[size];
+		heat = new double[size];
+		invConduction = new double[size];
+		airInvConduction = new double[size*6];
+		neighbours = new int[size*6];
+		boundary = new IHeatTransfer[size*6];
+		boundaryTiles = new TileEntity[size*6];
+		boundaryCounted = new boolean[size*6];
+
+		for(int i = 0; i < size; i++)
+		{
+			TileEntityThermodynamicConductor conductor = conductors[i];
+
+			tiers[i] = conductor.tier;
+			connections[i] = conductor.getAllCurrentConnections();
+			invConduction[i] = conductor.getInverseConductionCoefficient();
+
+			for(EnumFacing side : EnumFacing.VALUES)
+			{
+				int slot = i*6 + side.ordinal();
+
+				airInvConduction[slot] = IHeatTransfer.AIR_INVERSE_COEFFICIENT + conductor.getInsulationCoefficient(side) + invConduction[i];
+				neighbours[slot] = AIR;
+
+				if(!TileEntitySidedPipe.connectionMapContainsSide(connections[i], side))
+				{
+					continue;
+				}
+
+				TileEntity adj = conductor.getWorld().getTileEntity(conductor.getPos().offset(side));
+				Integer index = adj != null ? indices.get(adj) : null;
+
+				if(index != null)
+				{
+					neighbours[slot] = index;
+				}
+				else if(CapabilityUtils.hasCapability(adj, Capabilities.HEAT_TRANSFER_CAPABILITY, side.getOpposite()))
+				{
+					neighbours[slot] = BOUNDARY;
+					boundary[slot] = CapabilityUtils.getCapability(adj, Capabilities.HEAT_TRANSFER_CAPABILITY, side.getOpposite());
+					boundaryTiles[slot] = adj;
+					boundaryCounted[slot] = !CapabilityUtils.hasCapability(adj, Capabilities.GRID_TRANSMITTER_CAPABILITY, side.getOpposite());
+				}
+			}
+		}
+
+		layoutDirty = false;
+	}
+
+	/**
+	 * Whether anything the cached layout depends on changed without the network being told.
+	 */
+	private boolean isLayoutStale()
+	{
+		for(int i = 0; i < conductors.length; i++)
+		{
+			TileEntityThermodynamicConductor conductor = conductors[i];
+
+			if(conductor.isInvalid() || conductor.tier != tiers[i] || conductor.getAllCurrentConnections() != connections[i])
+			{
+				return true;
+			}
+		}
+
+		for(TileEntity tile : boundaryTiles)
+		{
+			if(tile != null && tile.isInvalid())
+			{
+				return true;
+			}
+		}
+
+		return false;
+	}
+
 	@Override
 	public void onUpdate()
 	{
@@ -80,25 +255,60 @@ public class HeatNetwork extends DynamicNetwork<IHeatTransfer, HeatNetwork>
 
 		if(FMLCommonHandler.instance().getEffectiveSide().isServer())
 		{
-			for(IGridTransmitter<IHeatTransfer, HeatNetwork> transmitter : transmitters)
+			if(layoutDirty || isLayoutStale())
 			{
-				if(transmitter instanceof TransmitterImpl && ((TransmitterImpl)transmitter).getTileEntity().hasCapability(Capabilities.HEAT_TRANSFER_CAPABILITY, null))
-				{
-					IHeatTransfer heatTransmitter = (IHeatTransfer)((TransmitterImpl)transmitter).getTileEntity().getCapability(Capabilities.HEAT_TRANSFER_CAPABILITY, null);
-					double[] d = heatTransmitter.simulateHeat();
-					newHeatTransferred += d[0];
-					newHeatLost += d[1];
-				}
+				buildLayout();
 			}
-			
-			for(IGridTransmitter<IHeatTransfer, HeatNetwork> transmitter : transmitters)
+
+			int size = conductors.length;
+
+			for(int i = 0; i < size; i++)
 			{
-				if(transmitter instanceof TransmitterImpl && ((TransmitterImpl)transmitter).getTileEntity().hasCapability(Capabilities.HEAT_TRANSFER_CAPABILITY, null))
+				temperatures[i] = conductors[i].temperature;
+				heat[i] = 0;
+			}
+
+			//Same per-side transfer as HeatUtils.simulate(), reading the temperatures from before this tick's changes
+			for(int i = 0; i < size; i++)
+			{
+				double temp = temperatures[i];
+
+				for(int side = 0; side < 6; side++)
 				{
-					IHeatTransfer heatTransmitter = (IHeatTransfer)((TransmitterImpl)transmitter).getTileEntity().getCapability(Capabilities.HEAT_TRANSFER_CAPABILITY, null);
-					newSumTemp += heatTransmitter.applyTemperatureChange();
+					int slot = i*6 + side;
+					int neighbour = neighbours[slot];
+
+					if(neighbour >= 0)
+					{
+						double heatToTransfer = temp / (invConduction[neighbour] + invConduction[i]);
+						heat[i] -= heatToTransfer;
+						heat[neighbour] += heatToTransfer;
+					}
+					else if(neighbour == BOUNDARY)
+					{
+						IHeatTransfer sink = boundary[slot];
+						double heatToTransfer = temp / (sink.getInverseConductionCoefficient() + invConduction[i]);
+						heat[i] -= heatToTransfer;
+						sink.transferHeatTo(heatToTransfer);
+
+						if(boundaryCounted[slot])
+						{
+							newHeatTransferred += heatToTransfer;
+						}
+					}
+					else {
+						double heatToTransfer = temp / airInvConduction[slot];
+						heat[i] -= heatToTransfer;
+						newHeatLost += heatToTransfer;
+					}
 				}
 			}
+
+			for(int i = 0; i < size; i++)
+			{
+				conductors[i].transferHeatTo(heat[i]);
+				newSumTemp += conductors[i].applyTemperatureChange();
+			}
 		}
 		
 		heatLost = newHeatLost;
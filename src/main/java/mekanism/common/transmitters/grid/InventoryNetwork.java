@@ -1,27 +1,75 @@
 package mekanism.common.transmitters.grid;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.EnumSet;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import mekanism.api.Coord4D;
 import mekanism.api.EnumColor;
 import mekanism.api.transmitters.DynamicNetwork;
 import mekanism.api.transmitters.IGridTransmitter;
+import mekanism.common.Mekanism;
+import mekanism.common.PacketHandler;
+import mekanism.common.base.ILogisticalTransporter;
+import mekanism.common.base.TileNetworkList;
+import mekanism.common.content.transporter.HashedItem;
+import mekanism.common.content.transporter.PathfinderCache;
 import mekanism.common.content.transporter.TransitRequest;
 import mekanism.common.content.transporter.TransitRequest.TransitResponse;
 import mekanism.common.content.transporter.TransporterManager;
+import mekanism.common.content.transporter.TransporterManager.InventoryCopy;
+import mekanism.common.content.transporter.TransporterManager.Reservation;
+import mekanism.common.content.transporter.TransporterStack;
+import mekanism.common.content.transporter.TransporterStack.Path;
+import mekanism.common.transmitters.TransporterImpl;
+import mekanism.common.util.MekanismUtils;
+import net.minecraft.item.ItemStack;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.EnumFacing;
+import net.minecraft.util.math.ChunkPos;
 import net.minecraftforge.fml.common.FMLCommonHandler;
 
 import org.apache.commons.lang3.tuple.Pair;
 
 public class InventoryNetwork extends DynamicNetwork<TileEntity, InventoryNetwork>
 {
+	private Long2ObjectMap<ILogisticalTransporter> transporterSnapshot = null;
+
+	/**
+	 * What this network knows about each destination: its predicted contents per insertion side, with stacks in flight
+	 * applied, and the item types and colors it had no room for. Kept across ticks; a destination is forgotten when a
+	 * neighbouring transporter is told its inventory or block changed, when its connection to the network changes, and
+	 * when a stack routed to it arrives or is given up on, and REJECTION_TTL ticks after it first rejected something.
+	 */
+	private Map<Coord4D, DestinationCache> destinations = new HashMap<>();
+
+	/**
+	 * How many ticks a destination's rejections are trusted for. Not every change that would let a destination accept
+	 * an item again reaches the network, such as a filter being changed or a capability's contents changing without a
+	 * block update, so a destination that rejected something is looked at again from scratch after this long.
+	 */
+	private static final int REJECTION_TTL = 100;
+
+	/** Items in flight towards each destination of this network, maintained by TransporterManager. */
+	public Map<Coord4D, List<Reservation>> reservations = new HashMap<>();
+
+	/** Stack updates of this network's transporters, in the order they happened, sent together at the end of the tick. */
+	private List<Coord4D> syncCoords = new ArrayList<>();
+	private List<ByteBuf> syncData = new ArrayList<>();
+
+	/** One transporter per chunk whose transit changed this tick, so each chunk is only marked dirty once. */
+	private Long2ObjectMap<TileEntity> dirtyChunks = new Long2ObjectOpenHashMap<>();
+
 	public InventoryNetwork() {}
 
 	public InventoryNetwork(Collection<InventoryNetwork> networks)
@@ -41,6 +89,12 @@ public class InventoryNetwork extends DynamicNetwork<TileEntity, InventoryNetwor
 	public List<AcceptorData> calculateAcceptors(TransitRequest request, EnumColor color)
 	{
 		List<AcceptorData> toReturn = new ArrayList<>();
+		List<Pair<HashedItem, EnumColor>> keys = new ArrayList<>(request.itemMap.size());
+		
+		for(ItemStack stack : request.itemMap.keySet())
+		{
+			keys.add(Pair.of(new HashedItem(stack), color));
+		}
 		
 		for(Coord4D coord : possibleAcceptors.keySet())
 		{
@@ -50,29 +104,50 @@ public class InventoryNetwork extends DynamicNetwork<TileEntity, InventoryNetwor
 			}
 			
 			EnumSet<EnumFacing> sides = acceptorDirections.get(coord);
-			TileEntity acceptor = coord.getTileEntity(getWorld());
 			
 			if(sides == null || sides.isEmpty())
 			{
 				continue;
 			}
 			
+			DestinationCache destination = getDestination(coord, sides);
+			
+			if(destination == null)
+			{
+				continue;
+			}
+			
 			AcceptorData data = null;
 			
 			for(EnumFacing side : sides)
 			{
-				TransitResponse response = TransporterManager.getPredictedInsert(acceptor, color, request, side.getOpposite());
+				EnumFacing insertSide = side.getOpposite();
+				
+				if(destination.isRejected(keys, insertSide))
+				{
+					continue;
+				}
+				
+				TransitResponse response = TransitResponse.EMPTY;
+				
+				if(TransporterManager.canInsertColor(destination.tile, color, insertSide))
+				{
+					response = getPredictedInsert(destination, request, insertSide);
+				}
 				
 				if(!response.isEmpty())
 				{
 					if(data == null)
 					{
-						data = new AcceptorData(coord, response, side.getOpposite());
+						data = new AcceptorData(coord, response, insertSide);
 					}
 					else {
-						data.sides.add(side.getOpposite());
+						data.sides.add(insertSide);
 					}
 				}
+				else {
+					destination.reject(keys, insertSide, getWorld().getTotalWorldTime());
+				}
 			}
 			
 			if(data != null)
@@ -84,6 +159,329 @@ public class InventoryNetwork extends DynamicNetwork<TileEntity, InventoryNetwor
 		return toReturn;
 	}
 	
+	/**
+	 * Gets what's known about a destination, dropping it first if it can't be trusted anymore. Destinations only
+	 * connected from above or below get no neighbour update when their inventory changes, so those are checked against
+	 * a hash of their contents instead.
+	 * @return the destination, or null if there's no tile there
+	 */
+	private DestinationCache getDestination(Coord4D coord, EnumSet<EnumFacing> sides)
+	{
+		if(!getWorld().isBlockLoaded(coord.getPos()))
+		{
+			destinations.remove(coord);
+			return null;
+		}
+		
+		DestinationCache destination = destinations.get(coord);
+		
+		if(destination == null || destination.tile.isInvalid())
+		{
+			TileEntity tile = coord.getTileEntity(getWorld());
+			
+			if(tile == null)
+			{
+				destinations.remove(coord);
+				return null;
+			}
+			
+			destination = new DestinationCache(tile);
+			destinations.put(coord, destination);
+		}
+		else if(!destination.rejections.isEmpty() && getWorld().getTotalWorldTime() >= destination.rejectionsExpire)
+		{
+			destination = new DestinationCache(destination.tile);
+			destinations.put(coord, destination);
+		}
+		
+		boolean watched = false;
+		
+		for(EnumFacing side : sides)
+		{
+			if(side.getAxis() != EnumFacing.Axis.Y)
+			{
+				watched = true;
+				break;
+			}
+		}
+		
+		if(!watched)
+		{
+			long hash = TransporterManager.getInventoryHash(destination.tile, sides.iterator().next().getOpposite());
+			
+			if(destination.hashed && destination.hash != hash)
+			{
+				destination = new DestinationCache(destination.tile);
+				destinations.put(coord, destination);
+			}
+			
+			destination.hash = hash;
+			destination.hashed = true;
+		}
+		
+		return destination;
+	}
+	
+	private TransitResponse getPredictedInsert(DestinationCache destination, TransitRequest request, EnumFacing side)
+	{
+		InventoryCopy copy = destination.copies[side.ordinal()];
+		
+		if(copy == null)
+		{
+			copy = TransporterManager.getPredictedInventory(this, destination.tile, side);
+			
+			if(copy == null)
+			{
+				return TransitResponse.EMPTY;
+			}
+			
+			destination.copies[side.ordinal()] = copy;
+		}
+		
+		return TransporterManager.getPredictedInsert(destination.tile, request, side, copy);
+	}
+	
+	/**
+	 * Applies a stack that was just sent towards a destination to that destination's cached inventory copies, so
+	 * later predictions account for it without copying the inventory again. It can only take up room, so what the
+	 * destination was found to reject still holds.
+	 * @param stack - stack that was routed
+	 */
+	public void onStackRouted(TransporterStack stack)
+	{
+		if(stack.pathType == Path.NONE || !stack.hasPath())
+		{
+			return;
+		}
+		
+		DestinationCache destination = destinations.get(stack.getDest());
+		
+		if(destination == null)
+		{
+			return;
+		}
+		
+		for(EnumFacing side : EnumFacing.VALUES)
+		{
+			if(destination.copies[side.ordinal()] != null)
+			{
+				TransporterManager.testInsert(destination.tile, destination.copies[side.ordinal()], side, stack);
+			}
+		}
+	}
+	
+	/**
+	 * Forgets what's known about a destination, after its inventory, configuration or the stacks heading to it
+	 * changed in a way the cached prediction doesn't account for.
+	 * @param coord - the destination's location
+	 */
+	public void onDestinationChanged(Coord4D coord)
+	{
+		destinations.remove(coord);
+	}
+	
+	/**
+	 * Gets every transporter in this network keyed by its packed position, so pathfinding doesn't have to look
+	 * tiles and capabilities up in the world. Rebuilt lazily after the network's transmitters change.
+	 * @return transporters in this network by BlockPos.toLong()
+	 */
+	public Long2ObjectMap<ILogisticalTransporter> getTransporterSnapshot()
+	{
+		if(transporterSnapshot == null)
+		{
+			transporterSnapshot = new Long2ObjectOpenHashMap<>(transmitters.size());
+
+			for(IGridTransmitter<TileEntity, InventoryNetwork> transmitter : transmitters)
+			{
+				if(transmitter instanceof ILogisticalTransporter && transmitter.isValid())
+				{
+					transporterSnapshot.put(transmitter.coord().getPos().toLong(), (ILogisticalTransporter)transmitter);
+				}
+			}
+		}
+
+		return transporterSnapshot;
+	}
+
+	/**
+	 * Queues a transporter's stack update to be sent with the network's other updates at the end of the tick.
+	 * @param coord - the transporter's location
+	 * @param data - the update, as from TileEntityLogisticalTransporter.getSyncPacket()
+	 */
+	public void queueSync(Coord4D coord, TileNetworkList data)
+	{
+		ByteBuf encoded = Unpooled.buffer();
+		PacketHandler.encode(data, encoded);
+
+		syncCoords.add(coord);
+		syncData.add(encoded);
+	}
+
+	/**
+	 * Marks a transporter's chunk to be saved at the end of the tick.
+	 * @param tile - transporter whose contents changed
+	 */
+	public void queueSave(TileEntity tile)
+	{
+		dirtyChunks.putIfAbsent(ChunkPos.asLong(tile.getPos().getX() >> 4, tile.getPos().getZ() >> 4), tile);
+	}
+
+	private void flushSyncs()
+	{
+		if(!syncCoords.isEmpty())
+		{
+			Mekanism.packetHandler.sendBatchToReceivers(syncCoords, syncData);
+
+			syncCoords.clear();
+			syncData.clear();
+		}
+
+		if(!dirtyChunks.isEmpty())
+		{
+			for(TileEntity tile : dirtyChunks.values())
+			{
+				MekanismUtils.saveChunk(tile);
+			}
+
+			dirtyChunks.clear();
+		}
+	}
+
+	@Override
+	public void adoptTransmittersAndAcceptorsFrom(InventoryNetwork net)
+	{
+		super.adoptTransmittersAndAcceptorsFrom(net);
+
+		for(IGridTransmitter<TileEntity, InventoryNetwork> transmitter : net.transmitters)
+		{
+			adoptStacks(transmitter);
+		}
+	}
+
+	/**
+	 * Moves the reservations of the stacks travelling through a transporter that joined this network over from the
+	 * network they were routed in.
+	 */
+	private void adoptStacks(IGridTransmitter<TileEntity, InventoryNetwork> transmitter)
+	{
+		if(transmitter instanceof TransporterImpl && FMLCommonHandler.instance().getEffectiveSide().isServer())
+		{
+			for(TransporterStack stack : ((TransporterImpl)transmitter).transit)
+			{
+				if(stack.reservation == null || stack.reservation.network != this)
+				{
+					TransporterManager.remove(stack);
+					TransporterManager.add(this, stack);
+				}
+			}
+		}
+	}
+
+	@Override
+	public void commit()
+	{
+		if(!transmittersToAdd.isEmpty())
+		{
+			transporterSnapshot = null;
+			PathfinderCache.onNetworkChanged(this);
+
+			for(IGridTransmitter<TileEntity, InventoryNetwork> transmitter : transmittersToAdd)
+			{
+				adoptStacks(transmitter);
+			}
+		}
+
+		super.commit();
+	}
+
+	@Override
+	public void updateTransmitterOnSide(IGridTransmitter<TileEntity, InventoryNetwork> transmitter, EnumFacing side)
+	{
+		super.updateTransmitterOnSide(transmitter, side);
+
+		destinations.remove(transmitter.coord().offset(side));
+	}
+
+	@Override
+	public void removeTransmitter(IGridTransmitter<TileEntity, InventoryNetwork> transmitter)
+	{
+		super.removeTransmitter(transmitter);
+
+		transporterSnapshot = null;
+		PathfinderCache.onChanged(transmitter.coord());
+	}
+
+	@Override
+	public void deregister()
+	{
+		super.deregister();
+
+		transporterSnapshot = null;
+		reservations.clear();
+		destinations.clear();
+
+		if(FMLCommonHandler.instance().getEffectiveSide().isServer())
+		{
+			flushSyncs();
+			PathfinderCache.onNetworkChanged(this);
+		}
+	}
+
+	private static class DestinationCache
+	{
+		public TileEntity tile;
+
+		public InventoryCopy[] copies = new InventoryCopy[EnumFacing.VALUES.length];
+
+		/** Insertion sides that had no room for, or didn't accept, an item type in a color. */
+		public Map<Pair<HashedItem, EnumColor>, EnumSet<EnumFacing>> rejections = new HashMap<>();
+
+		/** World time at which the rejections, and the predictions they were made from, are dropped. */
+		public long rejectionsExpire;
+
+		/** Hash of the contents, only kept for destinations that aren't watched by a neighbouring transporter. */
+		public long hash;
+		public boolean hashed;
+
+		public DestinationCache(TileEntity tileEntity)
+		{
+			tile = tileEntity;
+		}
+
+		public boolean isRejected(List<Pair<HashedItem, EnumColor>> keys, EnumFacing side)
+		{
+			if(keys.isEmpty())
+			{
+				return false;
+			}
+
+			for(Pair<HashedItem, EnumColor> key : keys)
+			{
+				EnumSet<EnumFacing> sides = rejections.get(key);
+
+				if(sides == null || !sides.contains(side))
+				{
+					return false;
+				}
+			}
+
+			return true;
+		}
+
+		public void reject(List<Pair<HashedItem, EnumColor>> keys, EnumFacing side, long time)
+		{
+			if(rejections.isEmpty())
+			{
+				rejectionsExpire = time+REJECTION_TTL;
+			}
+
+			for(Pair<HashedItem, EnumColor> key : keys)
+			{
+				rejections.computeIfAbsent(key, k -> EnumSet.noneOf(EnumFacing.class)).add(side);
+			}
+		}
+	}
+
 	public static class AcceptorData
 	{
 		public Coord4D location;
@@ -105,7 +503,7 @@ public class InventoryNetwork extends DynamicNetwork<TileEntity, InventoryNetwor
 
 		if(FMLCommonHandler.instance().getEffectiveSide().isServer())
 		{
-			//Future!
+			flushSyncs();
 		}
 	}
 
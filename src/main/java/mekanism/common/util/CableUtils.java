@@ -1,28 +1,24 @@
 package mekanism.common.util;
 
-import java.util.Iterator;
-import java.util.LinkedList;
-import java.util.List;
+import java.util.Arrays;
 import java.util.function.Function;
 
 import cofh.redstoneflux.api.IEnergyConnection;
 import cofh.redstoneflux.api.IEnergyProvider;
 import cofh.redstoneflux.api.IEnergyReceiver;
 import mekanism.api.Coord4D;
-import mekanism.api.energy.IStrictEnergyAcceptor;
 import mekanism.api.energy.IStrictEnergyOutputter;
 import mekanism.api.transmitters.TransmissionType;
+import mekanism.common.base.EnergyOutputCache;
 import mekanism.common.base.IEnergyWrapper;
 import mekanism.common.capabilities.Capabilities;
-import mekanism.common.config.MekanismConfig.general;
 import mekanism.common.integration.ic2.IC2Integration;
-import net.darkhax.tesla.api.ITeslaConsumer;
+import mekanism.common.tile.prefab.TileEntityBasicBlock;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.EnumFacing;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.World;
 import net.minecraftforge.energy.CapabilityEnergy;
-import net.minecraftforge.energy.IEnergyStorage;
 
 public final class CableUtils
 {
@@ -190,103 +186,74 @@ public final class CableUtils
 
 			if(energyToSend > 0)
 			{
-				List<EnumFacing> outputtingSides = new LinkedList<>();
-				boolean[] connectable = getConnections((TileEntity)emitter, emitter::sideIsOutput);
+				EnergyOutputCache cache;
 
-				for(EnumFacing side : EnumFacing.values())
+				if(emitter instanceof TileEntityBasicBlock)
 				{
-					if(connectable[side.ordinal()])
+					TileEntityBasicBlock tile = (TileEntityBasicBlock)emitter;
+
+					if(tile.energyOutputs == null)
 					{
-						outputtingSides.add(side);
+						tile.energyOutputs = new EnergyOutputCache();
 					}
-				}
-
-				if(!outputtingSides.isEmpty())
-				{
-					double sent = 0;
-					boolean tryAgain = false;
-					int i = 0;
 
-					do {
-						double prev = sent;
-						sent += emit_do(emitter, outputtingSides, energyToSend-sent, tryAgain);
-
-						tryAgain = energyToSend-sent > 0 && sent-prev > 0 && i < 100;
+					cache = tile.energyOutputs;
+				}
+				else {
+					cache = new EnergyOutputCache();
+				}
 
-						i++;
-					} while(tryAgain);
+				double sent = cache.emit(emitter, energyToSend);
 
+				if(sent > 0)
+				{
 					emitter.setEnergy(emitter.getEnergy() - sent);
 				}
 			}
 		}
 	}
 
-	private static double emit_do(IEnergyWrapper emitter, List<EnumFacing> outputtingSides, double totalToSend, boolean tryAgain)
+	/**
+	 * Finds the most energy any one acceptor is sent when energy is water-filled across what the acceptors want:
+	 * acceptors that want less than an even share get everything they want, and whatever they leave is split evenly
+	 * among the rest.
+	 * @param demands - how much each acceptor wants
+	 * @param sorted - array to sort the demands in, at least as long as count
+	 * @param count - number of acceptors
+	 * @param energyToSend - energy available to send
+	 * @return the most an acceptor should be sent, which is Double.MAX_VALUE if every acceptor can have what it wants
+	 */
+	public static double getFillLevel(double[] demands, double[] sorted, int count, double energyToSend)
 	{
-		double remains = totalToSend%outputtingSides.size();
-		double splitSend = (totalToSend-remains)/outputtingSides.size();
-		double sent = 0;
+		double totalDemand = 0;
 
-		for(Iterator<EnumFacing> it = outputtingSides.iterator(); it.hasNext();)
+		for(int i = 0; i < count; i++)
 		{
-			EnumFacing side = it.next();
-
-			TileEntity tileEntity = Coord4D.get((TileEntity)emitter).offset(side).getTileEntity(((TileEntity)emitter).getWorld());
-			double toSend = splitSend+remains;
-			remains = 0;
-
-			double prev = sent;
-			sent += emit_do_do(emitter, tileEntity, side, toSend, tryAgain);
+			sorted[i] = demands[i];
+			totalDemand += demands[i];
+		}
 
-			if(sent-prev == 0)
-			{
-				it.remove();
-			}
+		if(totalDemand <= energyToSend)
+		{
+			return Double.MAX_VALUE;
 		}
 
-		return sent;
-	}
+		Arrays.sort(sorted, 0, count);
 
-	private static double emit_do_do(IEnergyWrapper from, TileEntity tileEntity, EnumFacing side, double currentSending, boolean tryAgain)
-	{
-		double sent = 0;
+		double remaining = energyToSend;
 
-		if(CapabilityUtils.hasCapability(tileEntity, Capabilities.ENERGY_ACCEPTOR_CAPABILITY, side.getOpposite()))
+		for(int i = 0; i < count; i++)
 		{
-			IStrictEnergyAcceptor acceptor = CapabilityUtils.getCapability(tileEntity, Capabilities.ENERGY_ACCEPTOR_CAPABILITY, side.getOpposite());
+			int unfilled = count-i;
 
-			if(acceptor.canReceiveEnergy(side.getOpposite()))
+			if(sorted[i]*unfilled > remaining)
 			{
-				sent += acceptor.acceptEnergy(side.getOpposite(), currentSending, false);
+				return remaining/unfilled;
 			}
-		}
-		else if(MekanismUtils.useTesla() && CapabilityUtils.hasCapability(tileEntity, Capabilities.TESLA_CONSUMER_CAPABILITY, side.getOpposite()))
-		{
-			ITeslaConsumer consumer = CapabilityUtils.getCapability(tileEntity, Capabilities.TESLA_CONSUMER_CAPABILITY, side.getOpposite());
-			sent += consumer.givePower((long)Math.round(currentSending*general.TO_TESLA), false)*general.FROM_TESLA;
-		}
-		else if(MekanismUtils.useForge() && CapabilityUtils.hasCapability(tileEntity, CapabilityEnergy.ENERGY, side.getOpposite()))
-		{
-			IEnergyStorage storage = CapabilityUtils.getCapability(tileEntity, CapabilityEnergy.ENERGY, side.getOpposite());
-			sent += storage.receiveEnergy((int)Math.round(Math.min(Integer.MAX_VALUE, currentSending*general.TO_FORGE)), false)*general.FROM_FORGE;
-		}
-		else if(MekanismUtils.useRF() && tileEntity instanceof IEnergyReceiver)
-		{
-			IEnergyReceiver handler = (IEnergyReceiver)tileEntity;
 
-			if(handler.canConnectEnergy(side.getOpposite()))
-			{
-				int toSend = Math.min((int)Math.round(currentSending*general.TO_RF), Integer.MAX_VALUE);
-				int used = handler.receiveEnergy(side.getOpposite(), toSend, false);
-				sent += used*general.FROM_RF;
-			}
-		}
-		else if(MekanismUtils.useIC2())
-		{
-			sent += IC2Integration.emitEnergy(from, tileEntity, side, currentSending);
+			remaining -= sorted[i];
 		}
 
-		return sent;
+		return Double.MAX_VALUE;
 	}
 }
@@ -156,7 +156,7 @@ public abstract class BlockGenerator extends BlockContainer
 			
 			if(tileEntity instanceof IMultiblock)
 			{
-				((IMultiblock<?>)tileEntity).doUpdate();
+				((IMultiblock<?>)tileEntity).doUpdate(neighborPos);
 			}
 
 			if(tileEntity instanceof TileEntityBasicBlock)